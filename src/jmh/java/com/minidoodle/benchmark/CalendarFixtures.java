@@ -0,0 +1,122 @@
+package com.minidoodle.benchmark;
+
+import com.minidoodle.cache.FreeBusyStore;
+import com.minidoodle.cache.TimeSlotIndex;
+import com.minidoodle.cache.TimeSlotInterval;
+import com.minidoodle.config.PrimaryReader;
+import com.minidoodle.config.ReadWriteRoutingDataSource;
+import com.minidoodle.helper.TestDataHelper;
+import com.minidoodle.model.TimeSlot;
+import com.minidoodle.model.TimeSlotStatus;
+import com.minidoodle.model.User;
+import com.minidoodle.repository.CalendarRepository;
+import com.minidoodle.repository.TimeSlotRepository;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.lang.reflect.Proxy;
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.function.Function;
+
+final class CalendarFixtures {
+    static final Instant MONDAY = Instant.parse("2030-01-07T00:00:00Z");
+
+    private CalendarFixtures() {
+    }
+
+    static List<User> users(int count) {
+        List<User> users = new ArrayList<>(count);
+        for (long id = 1; id <= count; id++) {
+            users.add(TestDataHelper.createTestUser(id, "user" + id + "@example.com", "User " + id));
+        }
+        return users;
+    }
+
+    static List<TimeSlot> workingHours(List<User> users, int days, double availableRatio, long seed) {
+        Random random = new Random(seed);
+        List<TimeSlot> slots = new ArrayList<>();
+        long id = 1;
+        for (User user : users) {
+            for (int day = 0; day < days; day++) {
+                Instant midnight = MONDAY.plus(day, ChronoUnit.DAYS);
+                DayOfWeek dayOfWeek = midnight.atZone(ZoneOffset.UTC).getDayOfWeek();
+                if (dayOfWeek == DayOfWeek.SATURDAY || dayOfWeek == DayOfWeek.SUNDAY) {
+                    continue;
+                }
+                for (int hour = 9; hour < 17; hour++) {
+                    if (random.nextDouble() < availableRatio) {
+                        Instant start = midnight.plus(hour, ChronoUnit.HOURS);
+                        slots.add(TestDataHelper.createTestTimeSlot(id++, user.getCalendar(), start,
+                                start.plus(1, ChronoUnit.HOURS), TimeSlotStatus.AVAILABLE));
+                    }
+                }
+            }
+        }
+        return slots;
+    }
+
+    static Map<Long, List<TimeSlotInterval>> busyHours(List<User> users, int historyDays, int days, double availableRatio, long seed) {
+        Random window = new Random(seed);
+        Random history = new Random(seed + 1);
+        Map<Long, List<TimeSlotInterval>> busy = new HashMap<>();
+        long id = 1_000_000_000L;
+        for (User user : users) {
+            List<TimeSlotInterval> intervals = new ArrayList<>();
+            for (int day = -historyDays; day < days; day++) {
+                Instant midnight = MONDAY.plus(day, ChronoUnit.DAYS);
+                DayOfWeek dayOfWeek = midnight.atZone(ZoneOffset.UTC).getDayOfWeek();
+                if (dayOfWeek == DayOfWeek.SATURDAY || dayOfWeek == DayOfWeek.SUNDAY) {
+                    continue;
+                }
+                Random random = day < 0 ? history : window;
+                for (int hour = 9; hour < 17; hour++) {
+                    if (random.nextDouble() >= availableRatio) {
+                        Instant start = midnight.plus(hour, ChronoUnit.HOURS);
+                        intervals.add(new TimeSlotInterval(id++, start, start.plus(1, ChronoUnit.HOURS), TimeSlotStatus.BOOKED));
+                    }
+                }
+            }
+            busy.put(user.getCalendar().getId(), intervals);
+        }
+        return busy;
+    }
+
+    static TimeSlotRepository timeSlotRepository(List<TimeSlot> slots, Map<Long, List<TimeSlotInterval>> busy) {
+        return stub(TimeSlotRepository.class, Map.of(
+                "findTimeSlotsByUserIdsAndTimeRange", args -> slots,
+                "findIntervalsByCalendarId", args -> busy.getOrDefault((Long) args[0], List.of())));
+    }
+
+    static FreeBusyStore freeBusyStore(TimeSlotRepository repository, int calendars) {
+        CalendarRepository calendarRepository = stub(CalendarRepository.class, Map.of(
+                "findIdByUserId", args -> Optional.of(args[0])));
+        PlatformTransactionManager transactionManager = stub(PlatformTransactionManager.class, Map.of(
+                "getTransaction", args -> new SimpleTransactionStatus(),
+                "commit", args -> null,
+                "rollback", args -> null));
+        PrimaryReader primaryReader = new PrimaryReader(
+                new DefaultListableBeanFactory().getBeanProvider(ReadWriteRoutingDataSource.class), transactionManager);
+        TimeSlotIndex timeSlotIndex = new TimeSlotIndex(repository, calendarRepository, primaryReader, calendars);
+        return new FreeBusyStore(repository, timeSlotIndex, primaryReader, calendars);
+    }
+
+    private static <T> T stub(Class<T> type, Map<String, Function<Object[], Object>> answers) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            Function<Object[], Object> answer = answers.get(method.getName());
+            if (answer == null) {
+                throw new UnsupportedOperationException(method.getName());
+            }
+            return answer.apply(args);
+        }));
+    }
+}
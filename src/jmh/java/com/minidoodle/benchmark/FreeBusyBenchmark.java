@@ -0,0 +1,80 @@
+package com.minidoodle.benchmark;
+
+import com.minidoodle.cache.FreeBusyDay;
+import com.minidoodle.cache.TimeSlotInterval;
+import com.minidoodle.model.TimeSlotStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FreeBusyBenchmark {
+    @Param({"5", "50", "500"})
+    private int participants;
+
+    private FreeBusyDay[] days;
+    private Instant meetingStart;
+    private Instant meetingEnd;
+
+    @Setup
+    public void setUp() {
+        LocalDate monday = LocalDate.ofInstant(CalendarFixtures.MONDAY, ZoneOffset.UTC);
+        Random random = new Random(42);
+        days = new FreeBusyDay[participants];
+        long id = 1;
+        for (int participant = 0; participant < participants; participant++) {
+            List<TimeSlotInterval> busy = new ArrayList<>();
+            for (int hour = 9; hour < 17; hour++) {
+                if (random.nextDouble() < 0.4) {
+                    Instant start = CalendarFixtures.MONDAY.plus(hour, ChronoUnit.HOURS);
+                    busy.add(new TimeSlotInterval(id++, start, start.plus(1, ChronoUnit.HOURS), TimeSlotStatus.BOOKED));
+                }
+            }
+            days[participant] = FreeBusyDay.of(monday, busy);
+        }
+        meetingStart = CalendarFixtures.MONDAY.plus(13, ChronoUnit.HOURS);
+        meetingEnd = meetingStart.plus(30, ChronoUnit.MINUTES);
+    }
+
+    @Benchmark
+    public FreeBusyDay busyUnion() {
+        FreeBusyDay union = days[0];
+        for (int i = 1; i < days.length; i++) {
+            union = union.or(days[i]);
+        }
+        return union;
+    }
+
+    @Benchmark
+    public int freeParticipants() {
+        int free = 0;
+        for (FreeBusyDay day : days) {
+            if (day.isFree(meetingStart, meetingEnd)) {
+                free++;
+            }
+        }
+        return free;
+    }
+}
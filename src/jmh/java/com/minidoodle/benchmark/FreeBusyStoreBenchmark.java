@@ -0,0 +1,74 @@
+package com.minidoodle.benchmark;
+
+import com.minidoodle.cache.FreeBusyStore;
+import com.minidoodle.event.TimeSlotChangedEvent;
+import com.minidoodle.model.TimeSlotStatus;
+import com.minidoodle.model.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FreeBusyStoreBenchmark {
+    @Param({"5", "50"})
+    private int participants;
+
+    @Param({"30", "365"})
+    private int historyDays;
+
+    private FreeBusyStore freeBusyStore;
+    private List<Long> userIds;
+    private Instant meetingStart;
+    private Instant meetingEnd;
+    private TimeSlotChangedEvent booked;
+    private TimeSlotChangedEvent released;
+
+    @Setup
+    public void setUp() {
+        List<User> users = CalendarFixtures.users(participants);
+        freeBusyStore = CalendarFixtures.freeBusyStore(CalendarFixtures.timeSlotRepository(List.of(),
+                CalendarFixtures.busyHours(users, historyDays, 28, 0.6, 42)), participants);
+        userIds = users.stream().map(User::getId).toList();
+        meetingStart = CalendarFixtures.MONDAY.plus(13, ChronoUnit.HOURS);
+        meetingEnd = meetingStart.plus(30, ChronoUnit.MINUTES);
+        freeBusyStore.areAllFree(userIds, meetingStart, meetingEnd);
+
+        Instant start = CalendarFixtures.MONDAY.plus(7, ChronoUnit.HOURS);
+        booked = new TimeSlotChangedEvent(userIds.get(0), 1L, start, start.plus(1, ChronoUnit.HOURS), TimeSlotStatus.BOOKED, false);
+        released = new TimeSlotChangedEvent(userIds.get(0), 1L, start, start.plus(1, ChronoUnit.HOURS), TimeSlotStatus.AVAILABLE, false);
+    }
+
+    @Benchmark
+    public boolean areAllFree() {
+        return freeBusyStore.areAllFree(userIds, meetingStart, meetingEnd);
+    }
+
+    @Benchmark
+    public boolean isFree() {
+        return freeBusyStore.isFree(userIds.get(0), meetingStart, meetingEnd);
+    }
+
+    @Benchmark
+    public void bookAndRelease() {
+        freeBusyStore.onTimeSlotChanged(booked);
+        freeBusyStore.onTimeSlotChanged(released);
+    }
+}
@@ -0,0 +1,62 @@
+package com.minidoodle.benchmark;
+
+import com.minidoodle.cache.FreeBusyStore;
+import com.minidoodle.dto.MeetingSuggestionDTO;
+import com.minidoodle.dto.MeetingSuggestionRequestDTO;
+import com.minidoodle.mapper.TimeSlotMapper;
+import com.minidoodle.model.TimeSlot;
+import com.minidoodle.model.User;
+import com.minidoodle.repository.TimeSlotRepository;
+import com.minidoodle.service.impl.MeetingSuggestionServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FreeTimeIntersectionBenchmark {
+    @Param({"5", "50"})
+    private int participants;
+
+    private MeetingSuggestionServiceImpl meetingSuggestionService;
+    private MeetingSuggestionRequestDTO request;
+
+    @Setup
+    public void setUp() {
+        List<User> users = CalendarFixtures.users(participants);
+        List<TimeSlot> slots = CalendarFixtures.workingHours(users, 28, 0.6, 42);
+        TimeSlotRepository repository = CalendarFixtures.timeSlotRepository(slots,
+                CalendarFixtures.busyHours(users, 365, 28, 0.6, 42));
+        FreeBusyStore freeBusyStore = CalendarFixtures.freeBusyStore(repository, participants);
+        meetingSuggestionService = new MeetingSuggestionServiceImpl(repository, freeBusyStore);
+
+        request = new MeetingSuggestionRequestDTO();
+        request.setUserIds(users.stream().map(User::getId).collect(Collectors.toSet()));
+        request.setDurationMinutes(30);
+        request.setStartTime(TimeSlotMapper.toLocalDateTime(CalendarFixtures.MONDAY));
+        request.setEndTime(TimeSlotMapper.toLocalDateTime(CalendarFixtures.MONDAY.plus(28, ChronoUnit.DAYS)));
+        request.setLimit(10);
+    }
+
+    @Benchmark
+    public List<MeetingSuggestionDTO> suggestMeetingTimes() {
+        return meetingSuggestionService.suggestMeetingTimes(request);
+    }
+}
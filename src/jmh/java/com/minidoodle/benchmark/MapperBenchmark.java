@@ -0,0 +1,91 @@
+package com.minidoodle.benchmark;
+
+import com.minidoodle.dto.MeetingDTO;
+import com.minidoodle.dto.TimeSlotDTO;
+import com.minidoodle.helper.TestDataHelper;
+import com.minidoodle.mapper.MeetingMapper;
+import com.minidoodle.mapper.TimeSlotMapper;
+import com.minidoodle.model.Meeting;
+import com.minidoodle.model.TimeSlot;
+import com.minidoodle.model.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+    private final TimeSlotMapper timeSlotMapper = new TimeSlotMapper();
+    private final MeetingMapper meetingMapper = new MeetingMapper();
+    private User user;
+    private List<TimeSlot> slots;
+    private List<TimeSlotDTO> slotDTOs;
+    private List<Meeting> meetings;
+
+    @Setup
+    public void setUp() {
+        List<User> users = CalendarFixtures.users(10);
+        user = users.getFirst();
+        slots = CalendarFixtures.workingHours(List.of(user), 28, 1.0, 42);
+        slotDTOs = slots.stream().map(timeSlotMapper::toDTO).toList();
+        meetings = new ArrayList<>();
+        for (TimeSlot slot : slots) {
+            Meeting meeting = TestDataHelper.createTestMeeting(slot.getId(), "Meeting " + slot.getId(), "Weekly sync",
+                    user, slot, users.toArray(User[]::new));
+            meetings.add(meeting);
+        }
+    }
+
+    @Benchmark
+    public void timeSlotToDTO(Blackhole blackhole) {
+        for (TimeSlot slot : slots) {
+            blackhole.consume(timeSlotMapper.toDTO(slot));
+        }
+    }
+
+    @Benchmark
+    public void timeSlotToEntity(Blackhole blackhole) {
+        for (TimeSlotDTO dto : slotDTOs) {
+            blackhole.consume(timeSlotMapper.toEntity(dto, user));
+        }
+    }
+
+    @Benchmark
+    public void meetingToDTO(Blackhole blackhole) {
+        for (Meeting meeting : meetings) {
+            blackhole.consume(meetingMapper.toDTO(meeting));
+        }
+    }
+
+    @Benchmark
+    public void zoneConversionRoundTrip(Blackhole blackhole) {
+        for (TimeSlot slot : slots) {
+            blackhole.consume(TimeSlotMapper.toInstant(TimeSlotMapper.toLocalDateTime(slot.getStartTime())));
+        }
+    }
+
+    @Benchmark
+    public void meetingToDTOList(Blackhole blackhole) {
+        List<MeetingDTO> dtos = new ArrayList<>(meetings.size());
+        for (Meeting meeting : meetings) {
+            dtos.add(meetingMapper.toDTO(meeting));
+        }
+        blackhole.consume(dtos);
+    }
+}
@@ -0,0 +1,63 @@
+package com.minidoodle.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.minidoodle.dto.MeetingDTO;
+import com.minidoodle.dto.TimeSlotDTO;
+import com.minidoodle.helper.TestDataHelper;
+import com.minidoodle.mapper.TimeSlotMapper;
+import com.minidoodle.model.TimeSlot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationBenchmark {
+    @Param({"100", "5000"})
+    private int size;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private List<TimeSlotDTO> timeSlots;
+    private List<MeetingDTO> meetings;
+
+    @Setup
+    public void setUp() {
+        TimeSlotMapper timeSlotMapper = new TimeSlotMapper();
+        List<TimeSlot> slots = CalendarFixtures.workingHours(CalendarFixtures.users(size / 160 + 1), 28, 1.0, 42);
+        timeSlots = slots.subList(0, size).stream().map(timeSlotMapper::toDTO).toList();
+        meetings = new ArrayList<>(size);
+        for (long id = 1; id <= size; id++) {
+            meetings.add(TestDataHelper.createTestMeetingDTO(id, "Meeting " + id, "Weekly sync", 1L, id,
+                    LongStream.rangeClosed(2, 11).boxed().toArray(Long[]::new)));
+        }
+    }
+
+    @Benchmark
+    public byte[] timeSlotList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(timeSlots);
+    }
+
+    @Benchmark
+    public byte[] meetingList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(meetings);
+    }
+}
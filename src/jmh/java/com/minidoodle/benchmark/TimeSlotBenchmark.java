@@ -0,0 +1,58 @@
+package com.minidoodle.benchmark;
+
+import com.minidoodle.model.TimeSlot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TimeSlotBenchmark {
+    private List<TimeSlot> slots;
+    private TimeSlot probe;
+    private Instant instant;
+
+    @Setup
+    public void setUp() {
+        slots = CalendarFixtures.workingHours(CalendarFixtures.users(1), 28, 1.0, 42);
+        probe = slots.get(slots.size() / 2);
+        instant = probe.getStartTime().plusSeconds(1800);
+    }
+
+    @Benchmark
+    public void overlaps(Blackhole blackhole) {
+        for (TimeSlot slot : slots) {
+            blackhole.consume(slot.overlaps(probe));
+        }
+    }
+
+    @Benchmark
+    public void contains(Blackhole blackhole) {
+        for (TimeSlot slot : slots) {
+            blackhole.consume(slot.contains(instant));
+        }
+    }
+
+    @Benchmark
+    public void isValid(Blackhole blackhole) {
+        for (TimeSlot slot : slots) {
+            blackhole.consume(slot.isValid());
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.minidoodle.loadtest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+class LatencyRecorder {
+    private final ConcurrentMap<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+
+    void record(String endpoint, int status, long latencyNanos) {
+        endpoints.computeIfAbsent(endpoint, name -> new Endpoint()).record(status, latencyNanos);
+    }
+
+    List<LoadTestReport.EndpointResult> results(double elapsedSeconds) {
+        List<LoadTestReport.EndpointResult> results = new ArrayList<>();
+        new TreeMap<>(endpoints).forEach((name, endpoint) -> results.add(endpoint.result(name, elapsedSeconds)));
+        return results;
+    }
+
+    private static class Endpoint {
+        private long[] latencies = new long[1024];
+        private int count;
+        private int errors;
+        private final Map<Integer, Integer> statuses = new TreeMap<>();
+
+        synchronized void record(int status, long latencyNanos) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = latencyNanos;
+            statuses.merge(status, 1, Integer::sum);
+            if (status < 200 || status >= 400) {
+                errors++;
+            }
+        }
+
+        synchronized LoadTestReport.EndpointResult result(String name, double elapsedSeconds) {
+            long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+            return new LoadTestReport.EndpointResult(name, count, errors, Map.copyOf(statuses),
+                    count / elapsedSeconds,
+                    percentileMillis(sorted, 50), percentileMillis(sorted, 95), percentileMillis(sorted, 99),
+                    count == 0 ? 0 : sorted[count - 1] / 1_000_000.0);
+        }
+
+        private static double percentileMillis(long[] sorted, double percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = Math.min(sorted.length - 1, (int) Math.ceil(percentile / 100.0 * sorted.length) - 1);
+            return sorted[Math.max(0, index)] / 1_000_000.0;
+        }
+    }
+}
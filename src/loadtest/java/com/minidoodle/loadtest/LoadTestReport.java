@@ -0,0 +1,25 @@
+package com.minidoodle.loadtest;
+
+import java.util.List;
+import java.util.Map;
+
+record LoadTestReport(
+        String label,
+        int users,
+        int seededSlots,
+        int clients,
+        double durationSeconds,
+        List<EndpointResult> endpoints) {
+
+    record EndpointResult(
+            String endpoint,
+            int requests,
+            int errors,
+            Map<Integer, Integer> statuses,
+            double throughput,
+            double p50Millis,
+            double p95Millis,
+            double p99Millis,
+            double maxMillis) {
+    }
+}
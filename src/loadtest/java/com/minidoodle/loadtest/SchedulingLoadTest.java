@@ -0,0 +1,286 @@
+package com.minidoodle.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.minidoodle.MiniDoodleApplication;
+import com.minidoodle.model.TimeSlot;
+import com.minidoodle.model.TimeSlotStatus;
+import com.minidoodle.model.User;
+import com.minidoodle.repository.TimeSlotRepository;
+import com.minidoodle.repository.UserRepository;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+@Tag("loadtest")
+class SchedulingLoadTest {
+    private static final int USERS = Integer.getInteger("loadtest.users", 200);
+    private static final int CLIENTS = Integer.getInteger("loadtest.clients", 50);
+    private static final Duration DURATION = Duration.parse(System.getProperty("loadtest.duration", "PT60S"));
+    private static final int PARTICIPANTS_PER_MEETING = Integer.getInteger("loadtest.participants", 10);
+    private static final int WORKDAYS = 10;
+    private static final long SEED = Long.getLong("loadtest.seed", 42L);
+    private static final Path REPORT = Path.of(System.getProperty("loadtest.report", "target/loadtest-report.json"));
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final LatencyRecorder recorder = new LatencyRecorder();
+    private final Queue<Invitation> invitations = new ConcurrentLinkedQueue<>();
+
+    @Test
+    void runSchedulingScenarios() throws Exception {
+        String jdbcUrl = System.getProperty("loadtest.jdbc-url");
+        try (EmbeddedPostgres postgres = jdbcUrl == null ? EmbeddedPostgres.builder().start() : null) {
+            List<String> args = new ArrayList<>(List.of("--server.port=0", "--spring.jpa.properties.hibernate.generate_statistics=false"));
+            if (postgres != null) {
+                args.add("--spring.datasource.url=" + postgres.getJdbcUrl("postgres", "postgres"));
+                args.add("--spring.datasource.username=postgres");
+                args.add("--spring.datasource.password=postgres");
+            } else {
+                args.add("--spring.datasource.url=" + jdbcUrl);
+            }
+            try (ConfigurableApplicationContext context = new SpringApplicationBuilder(MiniDoodleApplication.class)
+                    .run(args.toArray(String[]::new))) {
+                URI baseUri = URI.create("http://localhost:" + context.getEnvironment().getProperty("local.server.port"));
+                String emailPrefix = "loadtest-" + System.nanoTime();
+                try {
+                    List<Calendar> calendars = seed(context, emailPrefix);
+                    LoadTestReport report = drive(baseUri, calendars);
+                    Files.createDirectories(REPORT.toAbsolutePath().getParent());
+                    objectMapper.writerWithDefaultPrettyPrinter().writeValue(REPORT.toFile(), report);
+                    logReport(report);
+
+                    assertThat(report.endpoints()).hasSize(4).allSatisfy(endpoint -> {
+                        assertThat(endpoint.requests()).isPositive();
+                        assertThat(endpoint.statuses().keySet()).allMatch(status -> status > 0 && status < 500);
+                    });
+                } finally {
+                    deleteSeededData(context.getBean(JdbcTemplate.class), emailPrefix);
+                }
+            }
+        }
+    }
+
+    private List<Calendar> seed(ConfigurableApplicationContext context, String emailPrefix) {
+        List<User> users = new ArrayList<>(USERS);
+        for (int i = 0; i < USERS; i++) {
+            User user = new User();
+            user.setEmail(emailPrefix + "-" + i + "@example.com");
+            user.setName("Load User " + i);
+            users.add(user);
+        }
+        context.getBean(UserRepository.class).saveAll(users);
+
+        Random random = new Random(SEED);
+        Instant monday = LocalDateTime.now().with(TemporalAdjusters.next(DayOfWeek.MONDAY)).truncatedTo(ChronoUnit.DAYS)
+                .atZone(ZoneId.systemDefault()).toInstant();
+        List<TimeSlot> slots = new ArrayList<>();
+        List<Calendar> calendars = new ArrayList<>(USERS);
+        for (User user : users) {
+            List<TimeSlot> userSlots = new ArrayList<>();
+            for (int day = 0, workday = 0; workday < WORKDAYS; day++) {
+                Instant midnight = monday.plus(day, ChronoUnit.DAYS);
+                DayOfWeek dayOfWeek = midnight.atZone(ZoneId.systemDefault()).getDayOfWeek();
+                if (dayOfWeek == DayOfWeek.SATURDAY || dayOfWeek == DayOfWeek.SUNDAY) {
+                    continue;
+                }
+                workday++;
+                for (int hour = 9; hour < 17; hour++) {
+                    Instant start = midnight.plus(hour, ChronoUnit.HOURS);
+                    TimeSlot slot = new TimeSlot();
+                    slot.setCalendar(user.getCalendar());
+                    slot.setStartTime(start);
+                    slot.setEndTime(start.plus(1, ChronoUnit.HOURS));
+                    slot.setStatus(random.nextDouble() < 0.8 ? TimeSlotStatus.AVAILABLE : TimeSlotStatus.BUSY);
+                    userSlots.add(slot);
+                }
+            }
+            slots.addAll(userSlots);
+            calendars.add(new Calendar(user.getId(), userSlots, monday.plus(WORKDAYS * 2L, ChronoUnit.DAYS)));
+        }
+        context.getBean(TimeSlotRepository.class).saveAll(slots);
+        calendars.forEach(Calendar::collectOpenSlots);
+        return calendars;
+    }
+
+    private LoadTestReport drive(URI baseUri, List<Calendar> calendars) throws InterruptedException {
+        long deadline = System.nanoTime() + DURATION.toNanos();
+        long startedAt = System.nanoTime();
+        try (HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+             ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int client = 0; client < CLIENTS; client++) {
+                Random random = new Random(SEED + client);
+                clients.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        runScenario(httpClient, baseUri, calendars, random);
+                    }
+                    return null;
+                });
+            }
+            clients.shutdown();
+            clients.awaitTermination(DURATION.toMillis() + 60_000, TimeUnit.MILLISECONDS);
+        }
+        double elapsedSeconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+        int seededSlots = calendars.stream().mapToInt(Calendar::seededSlots).sum();
+        return new LoadTestReport(System.getProperty("loadtest.label", "local"), USERS, seededSlots, CLIENTS,
+                elapsedSeconds, recorder.results(elapsedSeconds));
+    }
+
+    private void runScenario(HttpClient httpClient, URI baseUri, List<Calendar> calendars, Random random) {
+        double scenario = random.nextDouble();
+        Calendar calendar = calendars.get(random.nextInt(calendars.size()));
+        if (scenario < 0.55) {
+            send(httpClient, "GET /api/timeslots/user/{userId}/available",
+                    HttpRequest.newBuilder(baseUri.resolve("/api/timeslots/user/" + calendar.userId + "/available")).GET());
+        } else if (scenario < 0.75) {
+            Instant start = calendar.nextFreeHour();
+            String body = "{\"userId\":" + calendar.userId + ",\"startTime\":\"" + local(start) + "\",\"endTime\":\""
+                    + local(start.plus(1, ChronoUnit.HOURS)) + "\",\"status\":\"AVAILABLE\"}";
+            send(httpClient, "POST /api/timeslots", post(baseUri.resolve("/api/timeslots"), body));
+        } else if (scenario < 0.90) {
+            Long timeSlotId = calendar.openSlots.poll();
+            if (timeSlotId == null) {
+                return;
+            }
+            List<Long> participantIds = random.ints(0, calendars.size()).distinct()
+                    .mapToObj(index -> calendars.get(index).userId)
+                    .filter(userId -> !userId.equals(calendar.userId))
+                    .limit(PARTICIPANTS_PER_MEETING)
+                    .toList();
+            String body = "{\"title\":\"Load test\",\"organizerId\":" + calendar.userId + ",\"timeSlotId\":" + timeSlotId
+                    + ",\"participantIds\":" + participantIds + "}";
+            JsonNode meeting = send(httpClient, "POST /api/meetings", post(baseUri.resolve("/api/meetings"), body));
+            if (meeting != null && meeting.hasNonNull("id")) {
+                Set<Long> unavailable = new HashSet<>();
+                meeting.path("unavailableParticipantIds").forEach(userId -> unavailable.add(userId.asLong()));
+                participantIds.stream()
+                        .filter(userId -> !unavailable.contains(userId))
+                        .forEach(userId -> invitations.add(new Invitation(meeting.get("id").asLong(), userId)));
+            }
+        } else {
+            Invitation invitation = invitations.poll();
+            if (invitation == null) {
+                return;
+            }
+            send(httpClient, "POST /api/meetings/{meetingId}/accept/{participantId}", post(baseUri.resolve(
+                    "/api/meetings/" + invitation.meetingId + "/accept/" + invitation.participantId), ""));
+        }
+    }
+
+    private void deleteSeededData(JdbcTemplate jdbcTemplate, String emailPrefix) {
+        String users = "SELECT id FROM users WHERE email LIKE '" + emailPrefix + "-%'";
+        jdbcTemplate.update("DELETE FROM notification_outbox WHERE recipient_id IN (" + users + ")");
+        jdbcTemplate.update("DELETE FROM meeting_participants WHERE user_id IN (" + users + ")");
+        jdbcTemplate.update("DELETE FROM meetings WHERE organizer_id IN (" + users + ")");
+        jdbcTemplate.update("DELETE FROM time_slots WHERE calendar_id IN (" + users + ")");
+        jdbcTemplate.update("DELETE FROM calendars WHERE id IN (" + users + ")");
+        jdbcTemplate.update("DELETE FROM users WHERE email LIKE '" + emailPrefix + "-%'");
+    }
+
+    private JsonNode send(HttpClient httpClient, String endpoint, HttpRequest.Builder request) {
+        long start = System.nanoTime();
+        int status;
+        String body = null;
+        try {
+            HttpResponse<String> response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+            status = response.statusCode();
+            body = response.body();
+        } catch (Exception e) {
+            status = 0;
+        }
+        recorder.record(endpoint, status, System.nanoTime() - start);
+        if (status < 200 || status >= 300 || body == null || body.isEmpty()) {
+            return null;
+        }
+        try {
+            return objectMapper.readTree(body);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private static HttpRequest.Builder post(URI uri, String body) {
+        return HttpRequest.newBuilder(uri)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body));
+    }
+
+    private static String local(Instant instant) {
+        return LocalDateTime.ofInstant(instant, ZoneId.systemDefault()).toString();
+    }
+
+    private void logReport(LoadTestReport report) {
+        log.info("Load test: {} users, {} seeded slots, {} clients, {} s",
+                report.users(), report.seededSlots(), report.clients(), String.format("%.1f", report.durationSeconds()));
+        log.info(String.format("%-55s %8s %7s %9s %9s %9s %9s", "endpoint", "requests", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms"));
+        for (LoadTestReport.EndpointResult endpoint : report.endpoints()) {
+            log.info(String.format("%-55s %8d %7d %9.1f %9.1f %9.1f %9.1f", endpoint.endpoint(), endpoint.requests(), endpoint.errors(),
+                    endpoint.throughput(), endpoint.p50Millis(), endpoint.p95Millis(), endpoint.p99Millis()));
+        }
+        log.info("Report written to {}", REPORT.toAbsolutePath());
+    }
+
+    private record Invitation(long meetingId, long participantId) {
+    }
+
+    private static final class Calendar {
+        private final Long userId;
+        private final List<TimeSlot> seeded;
+        private final Queue<Long> openSlots = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger createdHours = new AtomicInteger();
+        private final Instant firstFreeHour;
+
+        private Calendar(Long userId, List<TimeSlot> seeded, Instant firstFreeHour) {
+            this.userId = userId;
+            this.seeded = seeded;
+            this.firstFreeHour = firstFreeHour;
+        }
+
+        private void collectOpenSlots() {
+            openSlots.addAll(seeded.stream()
+                    .filter(slot -> slot.getStatus() == TimeSlotStatus.AVAILABLE)
+                    .map(TimeSlot::getId)
+                    .collect(Collectors.toList()));
+        }
+
+        private int seededSlots() {
+            return seeded.size();
+        }
+
+        private Instant nextFreeHour() {
+            return firstFreeHour.plus(createdHours.getAndIncrement(), ChronoUnit.HOURS);
+        }
+    }
+}
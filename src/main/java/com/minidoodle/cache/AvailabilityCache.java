@@ -0,0 +1,44 @@
+package com.minidoodle.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.minidoodle.dto.TimeSlotDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Supplier;
+
+@Component
+public class AvailabilityCache {
+    private static final int ENTRY_OVERHEAD_BYTES = 128;
+    private static final int SLOT_BYTES = 160;
+
+    private final Cache<Key, List<TimeSlotDTO>> results;
+
+    public AvailabilityCache(MeterRegistry meterRegistry,
+                             @Value("${minidoodle.availability.cache.max-size:64MB}") DataSize maxSize,
+                             @Value("${minidoodle.availability.cache.expire-after-write:1m}") Duration expireAfterWrite) {
+        results = Caffeine.newBuilder()
+                .maximumWeight(maxSize.toBytes())
+                .weigher((Key key, List<TimeSlotDTO> slots) -> ENTRY_OVERHEAD_BYTES + SLOT_BYTES * slots.size())
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, results, "availability");
+    }
+
+    public List<TimeSlotDTO> get(Long calendarId, String version, LocalDateTime startTime, LocalDateTime endTime,
+                                 Supplier<List<TimeSlotDTO>> loader) {
+        Key key = new Key(calendarId, version, startTime, endTime);
+        return results.get(key, k -> List.copyOf(loader.get()));
+    }
+
+    private record Key(Long calendarId, String version, LocalDateTime startTime, LocalDateTime endTime) {
+    }
+}
@@ -0,0 +1,61 @@
+package com.minidoodle.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+public final class CalendarCache<V> {
+    private static final int GENERATION_STRIPES = 4096;
+
+    private final Cache<Long, V> values;
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+    public CalendarCache(int maxCalendars) {
+        this.values = Caffeine.newBuilder()
+                .maximumSize(maxCalendars)
+                .build();
+    }
+
+    public V getOrLoad(Long calendarId, Function<Long, V> loader) {
+        V cached = values.getIfPresent(calendarId);
+        if (cached != null) {
+            return cached;
+        }
+
+        int stripe = stripe(calendarId);
+        long generation = generations.get(stripe);
+        V loaded = loader.apply(calendarId);
+        values.asMap().putIfAbsent(calendarId, loaded);
+        if (generations.get(stripe) != generation) {
+            values.asMap().remove(calendarId, loaded);
+        }
+        return loaded;
+    }
+
+    public Optional<V> getIfPresent(Long calendarId) {
+        return Optional.ofNullable(values.getIfPresent(calendarId));
+    }
+
+    public void update(Long calendarId, UnaryOperator<V> change) {
+        generations.incrementAndGet(stripe(calendarId));
+        values.asMap().computeIfPresent(calendarId, (id, value) -> change.apply(value));
+    }
+
+    public void evict(Long calendarId) {
+        generations.incrementAndGet(stripe(calendarId));
+        values.invalidate(calendarId);
+    }
+
+    public long estimatedSize() {
+        values.cleanUp();
+        return values.estimatedSize();
+    }
+
+    private static int stripe(Long calendarId) {
+        return Long.hashCode(calendarId) & (GENERATION_STRIPES - 1);
+    }
+}
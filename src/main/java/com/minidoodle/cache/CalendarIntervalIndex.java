@@ -0,0 +1,217 @@
+package com.minidoodle.cache;
+
+import com.minidoodle.model.TimeSlotStatus;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+public final class CalendarIntervalIndex {
+    private static final TimeSlotStatus[] STATUSES = TimeSlotStatus.values();
+
+    private final long[] ids;
+    private final long[] starts;
+    private final long[] ends;
+    private final byte[] statuses;
+    private final long[] sortedIds;
+    private final int[] positions;
+    private final long[] maxEnds;
+    private final int leaves;
+
+    private CalendarIntervalIndex(long[] ids, long[] starts, long[] ends, byte[] statuses, long[] sortedIds, int[] positions) {
+        this.ids = ids;
+        this.starts = starts;
+        this.ends = ends;
+        this.statuses = statuses;
+        this.sortedIds = sortedIds;
+        this.positions = positions;
+        this.leaves = Integer.highestOneBit(Math.max(1, ids.length * 2 - 1));
+        this.maxEnds = new long[leaves * 2];
+        Arrays.fill(maxEnds, Long.MIN_VALUE);
+        for (int i = 0; i < ids.length; i++) {
+            maxEnds[leaves + i] = ends[i];
+        }
+        for (int node = leaves - 1; node > 0; node--) {
+            maxEnds[node] = Math.max(maxEnds[node * 2], maxEnds[node * 2 + 1]);
+        }
+    }
+
+    public static CalendarIntervalIndex of(Collection<TimeSlotInterval> intervals) {
+        List<TimeSlotInterval> sorted = new ArrayList<>(intervals);
+        sorted.sort(Comparator.comparing(TimeSlotInterval::getStartTime).thenComparing(TimeSlotInterval::getId));
+
+        int size = sorted.size();
+        long[] ids = new long[size];
+        long[] starts = new long[size];
+        long[] ends = new long[size];
+        byte[] statuses = new byte[size];
+        for (int i = 0; i < size; i++) {
+            TimeSlotInterval interval = sorted.get(i);
+            ids[i] = interval.getId();
+            starts[i] = toNanos(interval.getStartTime());
+            ends[i] = toNanos(interval.getEndTime());
+            statuses[i] = (byte) interval.getStatus().ordinal();
+        }
+
+        int[] positions = IntStream.range(0, size).boxed()
+                .sorted(Comparator.comparingLong(i -> ids[i]))
+                .mapToInt(Integer::intValue)
+                .toArray();
+        long[] sortedIds = new long[size];
+        for (int i = 0; i < size; i++) {
+            sortedIds[i] = ids[positions[i]];
+        }
+        return new CalendarIntervalIndex(ids, starts, ends, statuses, sortedIds, positions);
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    public List<Long> findOverlapping(Instant from, Instant to, TimeSlotStatus status) {
+        List<Long> result = new ArrayList<>();
+        for (int i : overlapping(toNanos(from), toNanos(to), status)) {
+            result.add(ids[i]);
+        }
+        return result;
+    }
+
+    public Optional<TimeSlotInterval> findFirstOverlapping(Instant from, Instant to, TimeSlotStatus status) {
+        return overlapping(toNanos(from), toNanos(to), status).stream()
+                .findFirst()
+                .map(i -> new TimeSlotInterval(ids[i], toInstant(starts[i]), toInstant(ends[i]), status));
+    }
+
+    public boolean intersects(Instant from, Instant to) {
+        long fromNanos = toNanos(from);
+        long toNanos = toNanos(to);
+        for (TimeSlotStatus status : STATUSES) {
+            if (!overlapping(fromNanos, toNanos, status).isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public CalendarIntervalIndex withSlot(TimeSlotInterval interval) {
+        int sortedIndex = Arrays.binarySearch(sortedIds, interval.getId());
+        CalendarIntervalIndex base = sortedIndex < 0 ? this : removeAt(sortedIndex);
+        return base.insert(interval.getId(), toNanos(interval.getStartTime()), toNanos(interval.getEndTime()),
+                (byte) interval.getStatus().ordinal());
+    }
+
+    public CalendarIntervalIndex withoutSlot(Long id) {
+        int sortedIndex = Arrays.binarySearch(sortedIds, id);
+        return sortedIndex < 0 ? this : removeAt(sortedIndex);
+    }
+
+    private CalendarIntervalIndex insert(long id, long start, long end, byte status) {
+        int position = insertionPoint(start, id);
+        int sortedIndex = -Arrays.binarySearch(sortedIds, id) - 1;
+
+        int[] shiftedPositions = new int[positions.length + 1];
+        for (int i = 0; i < positions.length; i++) {
+            shiftedPositions[i < sortedIndex ? i : i + 1] = positions[i] >= position ? positions[i] + 1 : positions[i];
+        }
+        shiftedPositions[sortedIndex] = position;
+
+        return new CalendarIntervalIndex(inserted(ids, position, id), inserted(starts, position, start),
+                inserted(ends, position, end), inserted(statuses, position, status),
+                inserted(sortedIds, sortedIndex, id), shiftedPositions);
+    }
+
+    private CalendarIntervalIndex removeAt(int sortedIndex) {
+        int position = positions[sortedIndex];
+
+        int[] shiftedPositions = new int[positions.length - 1];
+        for (int i = 0; i < positions.length; i++) {
+            if (i != sortedIndex) {
+                shiftedPositions[i < sortedIndex ? i : i - 1] = positions[i] > position ? positions[i] - 1 : positions[i];
+            }
+        }
+
+        return new CalendarIntervalIndex(removed(ids, position), removed(starts, position),
+                removed(ends, position), removed(statuses, position),
+                removed(sortedIds, sortedIndex), shiftedPositions);
+    }
+
+    private int insertionPoint(long start, long id) {
+        int lo = 0;
+        int hi = ids.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (starts[mid] < start || (starts[mid] == start && ids[mid] < id)) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    private List<Integer> overlapping(long from, long to, TimeSlotStatus status) {
+        List<Integer> result = new ArrayList<>();
+        if (ids.length > 0) {
+            collectOverlapping(1, 0, leaves, from, to, (byte) status.ordinal(), result);
+        }
+        return result;
+    }
+
+    private void collectOverlapping(int node, int lo, int hi, long from, long to, byte status, List<Integer> result) {
+        if (lo >= ids.length || starts[lo] >= to || maxEnds[node] <= from) {
+            return;
+        }
+        if (hi - lo == 1) {
+            if (statuses[lo] == status) {
+                result.add(lo);
+            }
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        collectOverlapping(node * 2, lo, mid, from, to, status, result);
+        collectOverlapping(node * 2 + 1, mid, hi, from, to, status, result);
+    }
+
+    private static long[] inserted(long[] values, int index, long value) {
+        long[] result = new long[values.length + 1];
+        System.arraycopy(values, 0, result, 0, index);
+        result[index] = value;
+        System.arraycopy(values, index, result, index + 1, values.length - index);
+        return result;
+    }
+
+    private static byte[] inserted(byte[] values, int index, byte value) {
+        byte[] result = new byte[values.length + 1];
+        System.arraycopy(values, 0, result, 0, index);
+        result[index] = value;
+        System.arraycopy(values, index, result, index + 1, values.length - index);
+        return result;
+    }
+
+    private static long[] removed(long[] values, int index) {
+        long[] result = new long[values.length - 1];
+        System.arraycopy(values, 0, result, 0, index);
+        System.arraycopy(values, index + 1, result, index, values.length - index - 1);
+        return result;
+    }
+
+    private static byte[] removed(byte[] values, int index) {
+        byte[] result = new byte[values.length - 1];
+        System.arraycopy(values, 0, result, 0, index);
+        System.arraycopy(values, index + 1, result, index, values.length - index - 1);
+        return result;
+    }
+
+    private static long toNanos(Instant instant) {
+        return Math.addExact(Math.multiplyExact(instant.getEpochSecond(), 1_000_000_000L), instant.getNano());
+    }
+
+    private static Instant toInstant(long nanos) {
+        return Instant.ofEpochSecond(Math.floorDiv(nanos, 1_000_000_000L), Math.floorMod(nanos, 1_000_000_000L));
+    }
+}
@@ -0,0 +1,142 @@
+package com.minidoodle.cache;
+
+import com.minidoodle.model.TimeSlotStatus;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Collection;
+
+public final class FreeBusyDay {
+    public static final Duration BUCKET = Duration.ofMinutes(5);
+    public static final int BUCKETS = (int) (Duration.ofDays(1).toNanos() / BUCKET.toNanos());
+
+    private static final int WORDS = (BUCKETS + Long.SIZE - 1) / Long.SIZE;
+    private static final long BUCKET_NANOS = BUCKET.toNanos();
+    private static final long MAX_OFFSET_SECONDS = Duration.ofDays(2).getSeconds();
+
+    private final LocalDate day;
+    private final long dayStartSecond;
+    private final long[] words;
+
+    private FreeBusyDay(LocalDate day, long dayStartSecond, long[] words) {
+        this.day = day;
+        this.dayStartSecond = dayStartSecond;
+        this.words = words;
+    }
+
+    public static FreeBusyDay free(LocalDate day) {
+        return new FreeBusyDay(day, startOf(day).getEpochSecond(), new long[WORDS]);
+    }
+
+    public static FreeBusyDay of(LocalDate day, Collection<TimeSlotInterval> intervals) {
+        long[] words = new long[WORDS];
+        long dayStartSecond = startOf(day).getEpochSecond();
+        for (TimeSlotInterval interval : intervals) {
+            if (interval.getStatus() != TimeSlotStatus.AVAILABLE) {
+                setRange(words, floorBucket(dayStartSecond, interval.getStartTime()), ceilBucket(dayStartSecond, interval.getEndTime()));
+            }
+        }
+        return new FreeBusyDay(day, dayStartSecond, words);
+    }
+
+    public LocalDate getDay() {
+        return day;
+    }
+
+    public boolean isFree(Instant from, Instant to) {
+        int fromBucket = floorBucket(dayStartSecond, from);
+        int toBucket = ceilBucket(dayStartSecond, to);
+        for (int word = fromBucket / Long.SIZE; word < WORDS && word * Long.SIZE < toBucket; word++) {
+            if ((words[word] & mask(word, fromBucket, toBucket)) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public boolean isBusy(int bucket) {
+        return (words[bucket / Long.SIZE] & (1L << bucket)) != 0;
+    }
+
+    public int busyBuckets() {
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    public FreeBusyDay or(FreeBusyDay other) {
+        requireSameDay(other);
+        long[] result = new long[WORDS];
+        for (int i = 0; i < WORDS; i++) {
+            result[i] = words[i] | other.words[i];
+        }
+        return new FreeBusyDay(day, dayStartSecond, result);
+    }
+
+    public FreeBusyDay and(FreeBusyDay other) {
+        requireSameDay(other);
+        long[] result = new long[WORDS];
+        for (int i = 0; i < WORDS; i++) {
+            result[i] = words[i] & other.words[i];
+        }
+        return new FreeBusyDay(day, dayStartSecond, result);
+    }
+
+    public Instant bucketStart(int bucket) {
+        return Instant.ofEpochSecond(dayStartSecond).plus(BUCKET.multipliedBy(bucket));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof FreeBusyDay other && day.equals(other.day) && Arrays.equals(words, other.words);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * day.hashCode() + Arrays.hashCode(words);
+    }
+
+    static Instant startOf(LocalDate day) {
+        return day.atStartOfDay(ZoneOffset.UTC).toInstant();
+    }
+
+    private void requireSameDay(FreeBusyDay other) {
+        if (!day.equals(other.day)) {
+            throw new IllegalArgumentException("Cannot combine " + day + " with " + other.day);
+        }
+    }
+
+    private static void setRange(long[] words, int fromBucket, int toBucket) {
+        for (int word = fromBucket / Long.SIZE; word < WORDS && word * Long.SIZE < toBucket; word++) {
+            words[word] |= mask(word, fromBucket, toBucket);
+        }
+    }
+
+    private static long mask(int word, int fromBucket, int toBucket) {
+        int from = Math.max(fromBucket - word * Long.SIZE, 0);
+        int to = Math.min(toBucket - word * Long.SIZE, Long.SIZE);
+        if (from >= to) {
+            return 0;
+        }
+        long upTo = to == Long.SIZE ? -1L : (1L << to) - 1;
+        return upTo & (-1L << from);
+    }
+
+    private static int floorBucket(long dayStartSecond, Instant instant) {
+        return Math.clamp(Math.floorDiv(nanosSince(dayStartSecond, instant), BUCKET_NANOS), 0, BUCKETS);
+    }
+
+    private static int ceilBucket(long dayStartSecond, Instant instant) {
+        return Math.clamp(-Math.floorDiv(-nanosSince(dayStartSecond, instant), BUCKET_NANOS), 0, BUCKETS);
+    }
+
+    private static long nanosSince(long dayStartSecond, Instant instant) {
+        long seconds = Math.clamp(instant.getEpochSecond() - dayStartSecond, -MAX_OFFSET_SECONDS, MAX_OFFSET_SECONDS);
+        return seconds * 1_000_000_000L + instant.getNano();
+    }
+}
@@ -0,0 +1,184 @@
+package com.minidoodle.cache;
+
+import com.minidoodle.config.PrimaryReader;
+import com.minidoodle.event.TimeSlotChangedEvent;
+import com.minidoodle.model.TimeSlotStatus;
+import com.minidoodle.repository.TimeSlotRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class FreeBusyStore {
+    private final TimeSlotRepository timeSlotRepository;
+    private final TimeSlotIndex timeSlotIndex;
+    private final PrimaryReader primaryReader;
+    private final CalendarCache<CalendarFreeBusy> calendars;
+
+    public FreeBusyStore(TimeSlotRepository timeSlotRepository,
+                         TimeSlotIndex timeSlotIndex,
+                         PrimaryReader primaryReader,
+                         @Value("${minidoodle.freebusy.max-calendars:100000}") int maxCalendars) {
+        this.timeSlotRepository = timeSlotRepository;
+        this.timeSlotIndex = timeSlotIndex;
+        this.primaryReader = primaryReader;
+        this.calendars = new CalendarCache<>(maxCalendars);
+    }
+
+    public FreeBusyDay getDay(Long userId, LocalDate day) {
+        return timeSlotIndex.resolveCalendarId(userId)
+                .map(calendarId -> getOrLoad(calendarId).day(day))
+                .orElseGet(() -> FreeBusyDay.free(day));
+    }
+
+    public FreeBusyDay getBusyUnion(Collection<Long> userIds, LocalDate day) {
+        FreeBusyDay union = FreeBusyDay.free(day);
+        for (Long userId : userIds) {
+            union = union.or(getDay(userId, day));
+        }
+        return union;
+    }
+
+    public boolean isFree(Long userId, Instant startTime, Instant endTime) {
+        return timeSlotIndex.resolveCalendarId(userId)
+                .map(calendarId -> getOrLoad(calendarId).isFree(startTime, endTime))
+                .orElse(true);
+    }
+
+    public boolean areAllFree(Collection<Long> userIds, Instant startTime, Instant endTime) {
+        for (LocalDate day = toDate(startTime); FreeBusyDay.startOf(day).isBefore(endTime); day = day.plusDays(1)) {
+            if (!getBusyUnion(userIds, day).isFree(startTime, endTime)) {
+                return userIds.stream().allMatch(userId -> isFree(userId, startTime, endTime));
+            }
+        }
+        return true;
+    }
+
+    public void rebuild(Long calendarId) {
+        evict(calendarId);
+        getOrLoad(calendarId);
+    }
+
+    public void evict(Long calendarId) {
+        calendars.evict(calendarId);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTimeSlotChanged(TimeSlotChangedEvent event) {
+        calendars.update(event.getCalendarId(), calendar -> event.isDeleted()
+                ? calendar.withoutSlot(event.getTimeSlotId())
+                : calendar.withSlot(new TimeSlotInterval(event.getTimeSlotId(), event.getStartTime(), event.getEndTime(), event.getStatus())));
+    }
+
+    private CalendarFreeBusy getOrLoad(Long calendarId) {
+        return calendars.getOrLoad(calendarId, id -> CalendarFreeBusy.of(primaryReader.read(() -> timeSlotRepository.findIntervalsByCalendarId(id))));
+    }
+
+    private static LocalDate toDate(Instant instant) {
+        return LocalDate.ofInstant(instant, ZoneOffset.UTC);
+    }
+
+    private static final class CalendarFreeBusy {
+        private final Map<Long, TimeSlotInterval> busySlots = new ConcurrentHashMap<>();
+        private final Map<LocalDate, BusyDay> days = new ConcurrentHashMap<>();
+
+        static CalendarFreeBusy of(Collection<TimeSlotInterval> intervals) {
+            CalendarFreeBusy calendar = new CalendarFreeBusy();
+            Map<LocalDate, List<TimeSlotInterval>> slotsByDay = new HashMap<>();
+            for (TimeSlotInterval interval : intervals) {
+                if (interval.getStatus() != TimeSlotStatus.AVAILABLE) {
+                    calendar.busySlots.put(interval.getId(), interval);
+                    for (LocalDate day : daysOf(interval)) {
+                        slotsByDay.computeIfAbsent(day, d -> new ArrayList<>()).add(interval);
+                    }
+                }
+            }
+            slotsByDay.forEach((day, slots) -> calendar.days.put(day, BusyDay.of(day, slots)));
+            return calendar;
+        }
+
+        FreeBusyDay day(LocalDate day) {
+            BusyDay busyDay = days.get(day);
+            return busyDay != null ? busyDay.bitmap() : FreeBusyDay.free(day);
+        }
+
+        boolean isFree(Instant startTime, Instant endTime) {
+            for (LocalDate day = toDate(startTime); FreeBusyDay.startOf(day).isBefore(endTime); day = day.plusDays(1)) {
+                BusyDay busyDay = days.get(day);
+                if (busyDay != null && !busyDay.isFree(startTime, endTime)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        CalendarFreeBusy withSlot(TimeSlotInterval interval) {
+            TimeSlotInterval previous = interval.getStatus() == TimeSlotStatus.AVAILABLE
+                    ? busySlots.remove(interval.getId())
+                    : busySlots.put(interval.getId(), interval);
+            if (previous != null) {
+                daysOf(previous).forEach(day -> replace(day, interval.getId(), null));
+            }
+            if (interval.getStatus() != TimeSlotStatus.AVAILABLE) {
+                daysOf(interval).forEach(day -> replace(day, interval.getId(), interval));
+            }
+            return this;
+        }
+
+        CalendarFreeBusy withoutSlot(Long id) {
+            TimeSlotInterval previous = busySlots.remove(id);
+            if (previous != null) {
+                daysOf(previous).forEach(day -> replace(day, id, null));
+            }
+            return this;
+        }
+
+        private void replace(LocalDate day, Long id, TimeSlotInterval interval) {
+            BusyDay busyDay = days.get(day);
+            List<TimeSlotInterval> slots = new ArrayList<>();
+            if (busyDay != null) {
+                busyDay.slots().stream().filter(slot -> !slot.getId().equals(id)).forEach(slots::add);
+            }
+            if (interval != null) {
+                slots.add(interval);
+            }
+            if (slots.isEmpty()) {
+                days.remove(day);
+            } else {
+                days.put(day, BusyDay.of(day, slots));
+            }
+        }
+
+        private static List<LocalDate> daysOf(TimeSlotInterval interval) {
+            List<LocalDate> days = new ArrayList<>();
+            for (LocalDate day = toDate(interval.getStartTime());
+                 FreeBusyDay.startOf(day).isBefore(interval.getEndTime());
+                 day = day.plusDays(1)) {
+                days.add(day);
+            }
+            return days;
+        }
+    }
+
+    private record BusyDay(FreeBusyDay bitmap, List<TimeSlotInterval> slots) {
+
+        static BusyDay of(LocalDate day, List<TimeSlotInterval> slots) {
+            return new BusyDay(FreeBusyDay.of(day, slots), List.copyOf(slots));
+        }
+
+        boolean isFree(Instant startTime, Instant endTime) {
+            return bitmap.isFree(startTime, endTime) || slots.stream()
+                    .noneMatch(slot -> slot.getStartTime().isBefore(endTime) && slot.getEndTime().isAfter(startTime));
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.minidoodle.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.minidoodle.config.PrimaryReader;
+import com.minidoodle.event.TimeSlotChangedEvent;
+import com.minidoodle.model.TimeSlotStatus;
+import com.minidoodle.repository.CalendarRepository;
+import com.minidoodle.repository.TimeSlotRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+@Component
+public class TimeSlotIndex {
+    private final TimeSlotRepository timeSlotRepository;
+    private final CalendarRepository calendarRepository;
+    private final PrimaryReader primaryReader;
+    private final CalendarCache<CalendarIntervalIndex> indexes;
+    private final Cache<Long, Long> calendarIdsByUserId;
+
+    public TimeSlotIndex(TimeSlotRepository timeSlotRepository,
+                         CalendarRepository calendarRepository,
+                         PrimaryReader primaryReader,
+                         @Value("${minidoodle.index.max-calendars:10000}") int maxCalendars) {
+        this.timeSlotRepository = timeSlotRepository;
+        this.calendarRepository = calendarRepository;
+        this.primaryReader = primaryReader;
+        this.indexes = new CalendarCache<>(maxCalendars);
+        this.calendarIdsByUserId = Caffeine.newBuilder()
+                .maximumSize(maxCalendars)
+                .build();
+    }
+
+    public Map<Long, TimeSlotInterval> findCachedOverlapping(Collection<Long> userIds, Instant startTime, Instant endTime, TimeSlotStatus status) {
+        Map<Long, TimeSlotInterval> slotsByUserId = new HashMap<>();
+        for (Long userId : userIds) {
+            Optional.ofNullable(calendarIdsByUserId.getIfPresent(userId))
+                    .flatMap(indexes::getIfPresent)
+                    .flatMap(index -> index.findFirstOverlapping(startTime, endTime, status))
+                    .ifPresent(slot -> slotsByUserId.put(userId, slot));
+        }
+        return slotsByUserId;
+    }
+
+    public boolean intersectsAny(Long userId, Instant startTime, Instant endTime) {
+        return resolveCalendarId(userId)
+                .map(calendarId -> getOrLoad(calendarId).intersects(startTime, endTime))
+                .orElse(false);
+    }
+
+    public Optional<Long> resolveCalendarId(Long userId) {
+        return Optional.ofNullable(calendarIdsByUserId.get(userId, id -> primaryReader.read(() -> calendarRepository.findIdByUserId(id)).orElse(null)));
+    }
+
+    public void evict(Long calendarId) {
+        indexes.evict(calendarId);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTimeSlotChanged(TimeSlotChangedEvent event) {
+        indexes.update(event.getCalendarId(), index -> event.isDeleted()
+                ? index.withoutSlot(event.getTimeSlotId())
+                : index.withSlot(new TimeSlotInterval(event.getTimeSlotId(), event.getStartTime(), event.getEndTime(), event.getStatus())));
+    }
+
+    private CalendarIntervalIndex getOrLoad(Long calendarId) {
+        return indexes.getOrLoad(calendarId, id -> CalendarIntervalIndex.of(primaryReader.read(() -> timeSlotRepository.findIntervalsByCalendarId(id))));
+    }
+}
@@ -0,0 +1,19 @@
+package com.minidoodle.cache;
+
+import com.minidoodle.model.TimeSlot;
+import com.minidoodle.model.TimeSlotStatus;
+import lombok.Value;
+
+import java.time.Instant;
+
+@Value
+public class TimeSlotInterval {
+    Long id;
+    Instant startTime;
+    Instant endTime;
+    TimeSlotStatus status;
+
+    public static TimeSlotInterval of(TimeSlot timeSlot) {
+        return new TimeSlotInterval(timeSlot.getId(), timeSlot.getStartTime(), timeSlot.getEndTime(), timeSlot.getStatus());
+    }
+}
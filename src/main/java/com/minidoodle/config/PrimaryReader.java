@@ -0,0 +1,40 @@
+package com.minidoodle.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+@Component
+public class PrimaryReader {
+    private final ObjectProvider<ReadWriteRoutingDataSource> readWriteRoutingDataSource;
+    private final TransactionTemplate readWriteTransaction;
+    private final TransactionTemplate newReadWriteTransaction;
+
+    public PrimaryReader(ObjectProvider<ReadWriteRoutingDataSource> readWriteRoutingDataSource,
+                         PlatformTransactionManager transactionManager) {
+        this.readWriteRoutingDataSource = readWriteRoutingDataSource;
+        this.readWriteTransaction = new TransactionTemplate(transactionManager);
+        this.newReadWriteTransaction = new TransactionTemplate(transactionManager);
+        this.newReadWriteTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public <T> T read(Supplier<T> query) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return readWriteTransaction.execute(status -> query.get());
+        }
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly() && replicaInUse()) {
+            return newReadWriteTransaction.execute(status -> query.get());
+        }
+        return query.get();
+    }
+
+    private boolean replicaInUse() {
+        ReadWriteRoutingDataSource dataSource = readWriteRoutingDataSource.getIfAvailable();
+        return dataSource != null && dataSource.isReplicaUsable();
+    }
+}
@@ -0,0 +1,24 @@
+package com.minidoodle.config;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.StandardBasicTypes;
+
+public class RangeFunctionContributor implements FunctionContributor {
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        BasicType<Boolean> booleanType = functionContributions.getTypeConfiguration()
+                .getBasicTypeRegistry().resolve(StandardBasicTypes.BOOLEAN);
+
+        functionContributions.getFunctionRegistry().registerPattern(
+                "range_overlaps",
+                "(?1 && tsrange(cast(?2 as timestamp), cast(?3 as timestamp), '[)'))",
+                booleanType);
+        functionContributions.getFunctionRegistry().registerPattern(
+                "range_contained_by",
+                "(?1 <@ tsrange(cast(?2 as timestamp), cast(?3 as timestamp), '[)'))",
+                booleanType);
+    }
+}
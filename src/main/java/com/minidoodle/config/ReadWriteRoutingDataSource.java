@@ -0,0 +1,80 @@
+package com.minidoodle.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+
+@Slf4j
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+    private static final String REPLICA_LAG_QUERY = "SELECT CASE " +
+            "WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 " +
+            "ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) END";
+
+    public enum Route {
+        PRIMARY, REPLICA
+    }
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final Duration maxReplicaLag;
+    private volatile boolean replicaUsable;
+    private volatile Duration replicaLag;
+
+    public ReadWriteRoutingDataSource(DataSource primaryDataSource, DataSource replicaDataSource, Duration maxReplicaLag) {
+        setTargetDataSources(Map.of(Route.PRIMARY, primaryDataSource, Route.REPLICA, replicaDataSource));
+        setDefaultTargetDataSource(primaryDataSource);
+        setLenientFallback(false);
+        this.replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+        this.maxReplicaLag = maxReplicaLag;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        super.afterPropertiesSet();
+        checkReplicaLag();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return replicaUsable && TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                ? Route.REPLICA
+                : Route.PRIMARY;
+    }
+
+    @Scheduled(fixedDelayString = "${minidoodle.datasource.replica.lag-check-interval-ms:1000}")
+    public void checkReplicaLag() {
+        boolean usable;
+        try {
+            Double lagSeconds = replicaJdbcTemplate.queryForObject(REPLICA_LAG_QUERY, Double.class);
+            replicaLag = lagSeconds == null ? null : Duration.ofMillis(Math.round(lagSeconds * 1000));
+            usable = replicaLag != null && replicaLag.compareTo(maxReplicaLag) <= 0;
+            if (!usable && replicaUsable) {
+                log.warn("Replica lag {} exceeds {}, routing read-only transactions to the primary", replicaLag, maxReplicaLag);
+            }
+        } catch (DataAccessException e) {
+            replicaLag = null;
+            usable = false;
+            if (replicaUsable) {
+                log.warn("Replica is unreachable, routing read-only transactions to the primary", e);
+            }
+        }
+        if (usable && !replicaUsable) {
+            log.info("Routing read-only transactions to the replica");
+        }
+        replicaUsable = usable;
+    }
+
+    public boolean isReplicaUsable() {
+        return replicaUsable;
+    }
+
+    public Duration getReplicaLag() {
+        return replicaLag;
+    }
+}
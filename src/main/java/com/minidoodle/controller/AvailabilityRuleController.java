@@ -0,0 +1,46 @@
+package com.minidoodle.controller;
+
+import com.minidoodle.dto.AvailabilityRuleDTO;
+import com.minidoodle.dto.TimeSlotDTO;
+import com.minidoodle.service.AvailabilityRuleService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/availability-rules")
+@RequiredArgsConstructor
+public class AvailabilityRuleController {
+    private final AvailabilityRuleService availabilityRuleService;
+
+    @PostMapping
+    public ResponseEntity<AvailabilityRuleDTO> createRule(@Valid @RequestBody AvailabilityRuleDTO ruleDTO) {
+        AvailabilityRuleDTO createdRule = availabilityRuleService.createRule(ruleDTO);
+        return ResponseEntity.status(HttpStatus.CREATED).body(createdRule);
+    }
+
+    @GetMapping("/user/{userId}")
+    public ResponseEntity<List<AvailabilityRuleDTO>> getRulesByUserId(@PathVariable Long userId) {
+        List<AvailabilityRuleDTO> rules = availabilityRuleService.getRulesByUserId(userId);
+        return ResponseEntity.ok(rules);
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deleteRule(@PathVariable Long id) {
+        availabilityRuleService.deleteRule(id);
+        return ResponseEntity.noContent().build();
+    }
+
+    @PostMapping("/{id}/occurrences")
+    public ResponseEntity<TimeSlotDTO> materializeOccurrence(
+            @PathVariable Long id,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startTime) {
+        TimeSlotDTO timeSlot = availabilityRuleService.materializeOccurrence(id, startTime);
+        return ResponseEntity.status(HttpStatus.CREATED).body(timeSlot);
+    }
+}
@@ -0,0 +1,24 @@
+package com.minidoodle.controller;
+
+import com.minidoodle.dto.FreeBusyRequestDTO;
+import com.minidoodle.service.FreeBusyService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/api/freebusy")
+@RequiredArgsConstructor
+public class FreeBusyController {
+    private final FreeBusyService freeBusyService;
+
+    @PostMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> getFreeBusy(@Valid @RequestBody FreeBusyRequestDTO request) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(outputStream -> freeBusyService.writeFreeBusy(request, outputStream));
+    }
+}
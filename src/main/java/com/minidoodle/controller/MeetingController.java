@@ -1,12 +1,18 @@
 package com.minidoodle.controller;
 
 import com.minidoodle.dto.MeetingDTO;
+import com.minidoodle.dto.MeetingSuggestionDTO;
+import com.minidoodle.dto.MeetingSuggestionRequestDTO;
+import com.minidoodle.dto.PageDTO;
+import com.minidoodle.service.CalendarMailboxService;
 import com.minidoodle.service.MeetingService;
+import com.minidoodle.service.MeetingSuggestionService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import java.util.List;
 
 @RestController
@@ -14,6 +20,8 @@ import java.util.List;
 @RequiredArgsConstructor
 public class MeetingController {
     private final MeetingService meetingService;
+    private final MeetingSuggestionService meetingSuggestionService;
+    private final CalendarMailboxService calendarMailboxService;
 
     @PostMapping
     public ResponseEntity<MeetingDTO> createMeeting(@Valid @RequestBody MeetingDTO meetingDTO) {
@@ -21,21 +29,36 @@ public class MeetingController {
         return ResponseEntity.status(HttpStatus.CREATED).body(createdMeeting);
     }
 
+    @PostMapping("/suggestions")
+    public ResponseEntity<List<MeetingSuggestionDTO>> suggestMeetingTimes(@Valid @RequestBody MeetingSuggestionRequestDTO request) {
+        List<MeetingSuggestionDTO> suggestions = meetingSuggestionService.suggestMeetingTimes(request);
+        return ResponseEntity.ok(suggestions);
+    }
+
     @GetMapping("/{id}")
-    public ResponseEntity<MeetingDTO> getMeetingById(@PathVariable Long id) {
+    public ResponseEntity<MeetingDTO> getMeetingById(@PathVariable Long id, WebRequest request) {
+        if (request.checkNotModified(meetingService.getMeetingVersion(id))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
         MeetingDTO meeting = meetingService.getMeetingById(id);
         return ResponseEntity.ok(meeting);
     }
 
     @GetMapping("/organizer/{organizerId}")
-    public ResponseEntity<List<MeetingDTO>> getMeetingsByOrganizerId(@PathVariable Long organizerId) {
-        List<MeetingDTO> meetings = meetingService.getMeetingsByOrganizerId(organizerId);
+    public ResponseEntity<PageDTO<MeetingDTO>> getMeetingsByOrganizerId(
+            @PathVariable Long organizerId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        PageDTO<MeetingDTO> meetings = meetingService.getMeetingsByOrganizerId(organizerId, cursor, limit);
         return ResponseEntity.ok(meetings);
     }
 
     @GetMapping("/participant/{participantId}")
-    public ResponseEntity<List<MeetingDTO>> getMeetingsByParticipantId(@PathVariable Long participantId) {
-        List<MeetingDTO> meetings = meetingService.getMeetingsByParticipantId(participantId);
+    public ResponseEntity<PageDTO<MeetingDTO>> getMeetingsByParticipantId(
+            @PathVariable Long participantId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        PageDTO<MeetingDTO> meetings = meetingService.getMeetingsByParticipantId(participantId, cursor, limit);
         return ResponseEntity.ok(meetings);
     }
 
@@ -53,13 +76,15 @@ public class MeetingController {
 
     @PostMapping("/{meetingId}/participants/{userId}")
     public ResponseEntity<MeetingDTO> addParticipant(@PathVariable Long meetingId, @PathVariable Long userId) {
-        MeetingDTO updatedMeeting = meetingService.addParticipant(meetingId, userId);
+        MeetingDTO updatedMeeting = calendarMailboxService.submitForUser(userId,
+                () -> meetingService.addParticipant(meetingId, userId));
         return ResponseEntity.ok(updatedMeeting);
     }
 
     @DeleteMapping("/{meetingId}/participants/{userId}")
     public ResponseEntity<MeetingDTO> removeParticipant(@PathVariable Long meetingId, @PathVariable Long userId) {
-        MeetingDTO updatedMeeting = meetingService.removeParticipant(meetingId, userId);
+        MeetingDTO updatedMeeting = calendarMailboxService.submitForUser(userId,
+                () -> meetingService.removeParticipant(meetingId, userId));
         return ResponseEntity.ok(updatedMeeting);
     }
 
@@ -67,7 +92,8 @@ public class MeetingController {
     public ResponseEntity<MeetingDTO> acceptInvitation(
             @PathVariable Long meetingId,
             @PathVariable Long participantId) {
-        MeetingDTO updatedMeeting = meetingService.acceptInvitation(meetingId, participantId);
+        MeetingDTO updatedMeeting = calendarMailboxService.submitForUser(participantId,
+                () -> meetingService.acceptInvitation(meetingId, participantId));
         return ResponseEntity.ok(updatedMeeting);
     }
 } 
\ No newline at end of file
@@ -1,6 +1,8 @@
 package com.minidoodle.controller;
 
+import com.minidoodle.dto.PageDTO;
 import com.minidoodle.dto.TimeSlotDTO;
+import com.minidoodle.service.CalendarMailboxService;
 import com.minidoodle.service.TimeSlotService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -8,6 +10,7 @@ import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -16,6 +19,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class TimeSlotController {
     private final TimeSlotService timeSlotService;
+    private final CalendarMailboxService calendarMailboxService;
 
     @PostMapping
     public ResponseEntity<TimeSlotDTO> createTimeSlot(@Valid @RequestBody TimeSlotDTO timeSlotDTO) {
@@ -30,14 +34,25 @@ public class TimeSlotController {
     }
 
     @GetMapping("/user/{userId}")
-    public ResponseEntity<List<TimeSlotDTO>> getTimeSlotsByUserId(@PathVariable Long userId) {
-        List<TimeSlotDTO> timeSlots = timeSlotService.getTimeSlotsByUserId(userId);
+    public ResponseEntity<PageDTO<TimeSlotDTO>> getTimeSlotsByUserId(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            WebRequest request) {
+        if (request.checkNotModified(timeSlotService.getCalendarVersion(userId))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+        PageDTO<TimeSlotDTO> timeSlots = timeSlotService.getTimeSlotsByUserId(userId, cursor, limit);
         return ResponseEntity.ok(timeSlots);
     }
 
     @GetMapping("/user/{userId}/available")
-    public ResponseEntity<List<TimeSlotDTO>> getAvailableTimeSlots(@PathVariable Long userId) {
-        List<TimeSlotDTO> timeSlots = timeSlotService.getAvailableTimeSlots(userId);
+    public ResponseEntity<List<TimeSlotDTO>> getAvailableTimeSlots(@PathVariable Long userId, WebRequest request) {
+        String version = timeSlotService.getAvailableTimeSlotsVersion(userId);
+        if (request.checkNotModified(version)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+        List<TimeSlotDTO> timeSlots = timeSlotService.getAvailableTimeSlots(userId, version);
         return ResponseEntity.ok(timeSlots);
     }
 
@@ -45,7 +60,11 @@ public class TimeSlotController {
     public ResponseEntity<List<TimeSlotDTO>> getTimeSlotsInRange(
             @PathVariable Long userId,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startTime,
-            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endTime) {
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endTime,
+            WebRequest request) {
+        if (request.checkNotModified(timeSlotService.getCalendarVersion(userId))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
         List<TimeSlotDTO> timeSlots = timeSlotService.getTimeSlotsInRange(userId, startTime, endTime);
         return ResponseEntity.ok(timeSlots);
     }
@@ -64,19 +83,19 @@ public class TimeSlotController {
 
     @PutMapping("/{id}/busy")
     public ResponseEntity<TimeSlotDTO> markTimeSlotAsBusy(@PathVariable Long id) {
-        TimeSlotDTO updatedTimeSlot = timeSlotService.markTimeSlotAsBusy(id);
+        TimeSlotDTO updatedTimeSlot = calendarMailboxService.submitForTimeSlot(id, () -> timeSlotService.markTimeSlotAsBusy(id));
         return ResponseEntity.ok(updatedTimeSlot);
     }
 
     @PutMapping("/{id}/available")
     public ResponseEntity<TimeSlotDTO> markTimeSlotAsAvailable(@PathVariable Long id) {
-        TimeSlotDTO updatedTimeSlot = timeSlotService.markTimeSlotAsAvailable(id);
+        TimeSlotDTO updatedTimeSlot = calendarMailboxService.submitForTimeSlot(id, () -> timeSlotService.markTimeSlotAsAvailable(id));
         return ResponseEntity.ok(updatedTimeSlot);
     }
 
     @PutMapping("/{id}/booked")
     public ResponseEntity<TimeSlotDTO> markTimeSlotAsBooked(@PathVariable Long id) {
-        TimeSlotDTO updatedTimeSlot = timeSlotService.markTimeSlotAsBooked(id);
+        TimeSlotDTO updatedTimeSlot = calendarMailboxService.submitForTimeSlot(id, () -> timeSlotService.markTimeSlotAsBooked(id));
         return ResponseEntity.ok(updatedTimeSlot);
     }
 } 
\ No newline at end of file
@@ -0,0 +1,38 @@
+package com.minidoodle.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Data;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Set;
+
+@Data
+public class AvailabilityRuleDTO {
+    private Long id;
+
+    @NotNull(message = "User ID is required")
+    private Long userId;
+
+    @NotEmpty(message = "At least one day of week is required")
+    private Set<DayOfWeek> daysOfWeek;
+
+    @NotNull(message = "Start time of day is required")
+    private LocalTime startTimeOfDay;
+
+    @NotNull(message = "Duration is required")
+    @Positive(message = "Duration must be positive")
+    private Integer durationMinutes;
+
+    @NotNull(message = "Start date is required")
+    private LocalDate startsOn;
+
+    private LocalDate untilDate;
+
+    @Positive(message = "Occurrence count must be positive")
+    private Integer occurrenceCount;
+
+    private Set<LocalDate> exceptionDates;
+}
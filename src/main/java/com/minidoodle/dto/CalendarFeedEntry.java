@@ -0,0 +1,17 @@
+package com.minidoodle.dto;
+
+import com.minidoodle.model.TimeSlotStatus;
+import lombok.Value;
+
+import java.time.Instant;
+
+@Value
+public class CalendarFeedEntry {
+    Long timeSlotId;
+    Instant startTime;
+    Instant endTime;
+    TimeSlotStatus status;
+    Instant updatedAt;
+    String meetingTitle;
+    String meetingDescription;
+}
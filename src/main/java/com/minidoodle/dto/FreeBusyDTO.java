@@ -0,0 +1,23 @@
+package com.minidoodle.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FreeBusyDTO {
+    private Long userId;
+    private List<BusyInterval> busy;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BusyInterval {
+        private LocalDateTime startTime;
+        private LocalDateTime endTime;
+    }
+}
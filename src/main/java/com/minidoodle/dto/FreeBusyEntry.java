@@ -0,0 +1,12 @@
+package com.minidoodle.dto;
+
+import lombok.Value;
+
+import java.time.Instant;
+
+@Value
+public class FreeBusyEntry {
+    Long userId;
+    Instant startTime;
+    Instant endTime;
+}
@@ -0,0 +1,27 @@
+package com.minidoodle.dto;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+@Data
+public class FreeBusyRequestDTO {
+    @NotEmpty(message = "At least one user ID is required")
+    @Size(max = 1000, message = "At most 1000 user IDs are allowed")
+    private Set<Long> userIds;
+
+    @NotNull(message = "Start time is required")
+    private LocalDateTime startTime;
+
+    @NotNull(message = "End time is required")
+    private LocalDateTime endTime;
+
+    @AssertTrue(message = "Start time must be before end time")
+    private boolean isWindowValid() {
+        return startTime == null || endTime == null || startTime.isBefore(endTime);
+    }
+}
@@ -21,4 +21,6 @@ public class MeetingDTO {
     private Long timeSlotId;
     
     private Set<Long> participantIds;
+
+    private Set<Long> unavailableParticipantIds;
 } 
\ No newline at end of file
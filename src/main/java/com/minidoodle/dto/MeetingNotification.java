@@ -0,0 +1,11 @@
+package com.minidoodle.dto;
+
+import com.minidoodle.model.Meeting;
+import com.minidoodle.model.NotificationType;
+import lombok.Value;
+
+@Value
+public class MeetingNotification {
+    NotificationType type;
+    Meeting meeting;
+}
@@ -0,0 +1,14 @@
+package com.minidoodle.dto;
+
+import lombok.Data;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+@Data
+public class MeetingSuggestionDTO {
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+    private int availableCount;
+    private int participantCount;
+    private Set<Long> availableUserIds;
+}
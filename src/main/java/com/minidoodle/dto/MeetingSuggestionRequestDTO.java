@@ -0,0 +1,27 @@
+package com.minidoodle.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Data;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+@Data
+public class MeetingSuggestionRequestDTO {
+    @NotEmpty(message = "At least one user ID is required")
+    private Set<Long> userIds;
+
+    @NotNull(message = "Duration is required")
+    @Positive(message = "Duration must be positive")
+    private Integer durationMinutes;
+
+    @NotNull(message = "Start time is required")
+    private LocalDateTime startTime;
+
+    @NotNull(message = "End time is required")
+    private LocalDateTime endTime;
+
+    @Positive(message = "Limit must be positive")
+    private Integer limit;
+}
@@ -0,0 +1,12 @@
+package com.minidoodle.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class PageDTO<T> {
+    private List<T> items;
+    private String nextCursor;
+}
@@ -3,9 +3,14 @@ package com.minidoodle.dto;
 import com.minidoodle.model.TimeSlotStatus;
 import jakarta.validation.constraints.NotNull;
 import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.Instant;
 import java.time.LocalDateTime;
 
+import static com.minidoodle.mapper.TimeSlotMapper.toLocalDateTime;
+
 @Data
+@NoArgsConstructor
 public class TimeSlotDTO {
     private Long id;
     
@@ -19,4 +24,14 @@ public class TimeSlotDTO {
     private LocalDateTime endTime;
     
     private TimeSlotStatus status;
+
+    private Long availabilityRuleId;
+
+    public TimeSlotDTO(Long id, Long userId, Instant startTime, Instant endTime, TimeSlotStatus status) {
+        this.id = id;
+        this.userId = userId;
+        this.startTime = toLocalDateTime(startTime);
+        this.endTime = toLocalDateTime(endTime);
+        this.status = status;
+    }
 } 
\ No newline at end of file
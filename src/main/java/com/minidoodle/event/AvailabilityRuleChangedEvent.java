@@ -0,0 +1,8 @@
+package com.minidoodle.event;
+
+import lombok.Value;
+
+@Value
+public class AvailabilityRuleChangedEvent {
+    Long calendarId;
+}
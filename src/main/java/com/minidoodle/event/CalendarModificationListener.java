@@ -0,0 +1,111 @@
+package com.minidoodle.event;
+
+import com.minidoodle.repository.CalendarRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Slf4j
+@Component
+public class CalendarModificationListener {
+    private final CalendarRepository calendarRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration retryDelay;
+    private final Set<Long> pendingCalendarIds = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean draining = new AtomicBoolean();
+
+    public CalendarModificationListener(CalendarRepository calendarRepository,
+                                        PlatformTransactionManager transactionManager,
+                                        @Value("${minidoodle.calendar-version.retry-delay:1s}") Duration retryDelay) {
+        this.calendarRepository = calendarRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.retryDelay = retryDelay;
+    }
+
+    @EventListener
+    public void onTimeSlotChanged(TimeSlotChangedEvent event) {
+        touchAfterCommit(event.getCalendarId());
+    }
+
+    @EventListener
+    public void onAvailabilityRuleChanged(AvailabilityRuleChangedEvent event) {
+        touchAfterCommit(event.getCalendarId());
+    }
+
+    private void touchAfterCommit(Long calendarId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            touchLater(Set.of(calendarId));
+            return;
+        }
+
+        PendingTouches pending = (PendingTouches) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingTouches();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.calendarIds.add(calendarId);
+    }
+
+    private void touchLater(Collection<Long> calendarIds) {
+        pendingCalendarIds.addAll(calendarIds);
+        if (draining.compareAndSet(false, true)) {
+            Thread.ofVirtual().name("calendar-version").start(this::drain);
+        }
+    }
+
+    private void drain() {
+        do {
+            Set<Long> calendarIds = new HashSet<>(pendingCalendarIds);
+            pendingCalendarIds.removeAll(calendarIds);
+            if (!touch(calendarIds)) {
+                pendingCalendarIds.addAll(calendarIds);
+                try {
+                    Thread.sleep(retryDelay);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    draining.set(false);
+                    return;
+                }
+            }
+            draining.set(false);
+        } while (!pendingCalendarIds.isEmpty() && draining.compareAndSet(false, true));
+    }
+
+    private boolean touch(Collection<Long> calendarIds) {
+        try {
+            Instant now = Instant.now();
+            transactionTemplate.executeWithoutResult(status -> calendarIds.forEach(calendarId -> calendarRepository.findById(calendarId)
+                    .ifPresent(calendar -> calendar.setUpdatedAt(now))));
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("Failed to bump version of calendars {}, retrying in {}", calendarIds, retryDelay, e);
+            return false;
+        }
+    }
+
+    private final class PendingTouches implements TransactionSynchronization {
+        private final Set<Long> calendarIds = new HashSet<>();
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(CalendarModificationListener.this);
+            if (status == STATUS_COMMITTED) {
+                touchLater(calendarIds);
+            }
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.minidoodle.event;
+
+import com.minidoodle.cache.TimeSlotInterval;
+import com.minidoodle.model.TimeSlot;
+import com.minidoodle.model.TimeSlotStatus;
+import lombok.Value;
+
+import java.time.Instant;
+
+@Value
+public class TimeSlotChangedEvent {
+    Long calendarId;
+    Long timeSlotId;
+    Instant startTime;
+    Instant endTime;
+    TimeSlotStatus status;
+    boolean deleted;
+
+    public static TimeSlotChangedEvent saved(TimeSlot timeSlot) {
+        return new TimeSlotChangedEvent(timeSlot.getCalendar().getId(), timeSlot.getId(),
+                timeSlot.getStartTime(), timeSlot.getEndTime(), timeSlot.getStatus(), false);
+    }
+
+    public static TimeSlotChangedEvent booked(Long calendarId, TimeSlotInterval timeSlot) {
+        return new TimeSlotChangedEvent(calendarId, timeSlot.getId(),
+                timeSlot.getStartTime(), timeSlot.getEndTime(), TimeSlotStatus.BOOKED, false);
+    }
+
+    public static TimeSlotChangedEvent deleted(TimeSlot timeSlot) {
+        return new TimeSlotChangedEvent(timeSlot.getCalendar().getId(), timeSlot.getId(),
+                timeSlot.getStartTime(), timeSlot.getEndTime(), timeSlot.getStatus(), true);
+    }
+}
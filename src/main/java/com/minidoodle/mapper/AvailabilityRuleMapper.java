@@ -0,0 +1,59 @@
+package com.minidoodle.mapper;
+
+import com.minidoodle.dto.AvailabilityRuleDTO;
+import com.minidoodle.dto.TimeSlotDTO;
+import com.minidoodle.model.AvailabilityRule;
+import com.minidoodle.model.TimeSlotStatus;
+import com.minidoodle.model.User;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.HashSet;
+
+@Component
+public class AvailabilityRuleMapper {
+    public AvailabilityRuleDTO toDTO(AvailabilityRule rule) {
+        if (rule == null) return null;
+
+        AvailabilityRuleDTO dto = new AvailabilityRuleDTO();
+        dto.setId(rule.getId());
+        dto.setUserId(rule.getCalendar().getUserId());
+        dto.setDaysOfWeek(EnumSet.copyOf(rule.getDaysOfWeek()));
+        dto.setStartTimeOfDay(rule.getStartTimeOfDay());
+        dto.setDurationMinutes(rule.getDurationMinutes());
+        dto.setStartsOn(rule.getStartsOn());
+        dto.setUntilDate(rule.getUntilDate());
+        dto.setOccurrenceCount(rule.getOccurrenceCount());
+        dto.setExceptionDates(new HashSet<>(rule.getExceptionDates()));
+        return dto;
+    }
+
+    public AvailabilityRule toEntity(AvailabilityRuleDTO dto, User user) {
+        if (dto == null) return null;
+
+        AvailabilityRule rule = new AvailabilityRule();
+        rule.setId(dto.getId());
+        rule.setCalendar(user.getCalendar());
+        rule.setDaysOfWeek(EnumSet.copyOf(dto.getDaysOfWeek()));
+        rule.setStartTimeOfDay(dto.getStartTimeOfDay());
+        rule.setDurationMinutes(dto.getDurationMinutes());
+        rule.setStartsOn(dto.getStartsOn());
+        rule.setUntilDate(dto.getUntilDate());
+        rule.setOccurrenceCount(dto.getOccurrenceCount());
+        if (dto.getExceptionDates() != null) {
+            rule.setExceptionDates(new HashSet<>(dto.getExceptionDates()));
+        }
+        return rule;
+    }
+
+    public TimeSlotDTO toVirtualTimeSlot(AvailabilityRule rule, Long userId, LocalDateTime occurrenceStart) {
+        TimeSlotDTO dto = new TimeSlotDTO();
+        dto.setUserId(userId);
+        dto.setStartTime(occurrenceStart);
+        dto.setEndTime(occurrenceStart.plus(rule.getDuration()));
+        dto.setStatus(TimeSlotStatus.AVAILABLE);
+        dto.setAvailabilityRuleId(rule.getId());
+        return dto;
+    }
+}
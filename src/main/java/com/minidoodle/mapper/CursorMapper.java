@@ -0,0 +1,91 @@
+package com.minidoodle.mapper;
+
+import com.minidoodle.dto.PageDTO;
+import com.minidoodle.exception.InvalidCursorException;
+import lombok.Value;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public final class CursorMapper {
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 500;
+
+    private CursorMapper() {
+    }
+
+    @Value
+    public static class TimeCursor {
+        Instant startTime;
+        Long id;
+    }
+
+    public static int pageSize(Integer limit) {
+        return limit == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+    }
+
+    public static String encodeId(Long id) {
+        return encode(String.valueOf(id));
+    }
+
+    public static String encodeTime(Instant startTime, Long id) {
+        return encode(startTime.getEpochSecond() + ":" + startTime.getNano() + ":" + id);
+    }
+
+    public static Long decodeId(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+        String[] parts = decode(cursor, 1);
+        return parseLong(parts[0]);
+    }
+
+    public static TimeCursor decodeTime(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        String[] parts = decode(cursor, 3);
+        try {
+            return new TimeCursor(Instant.ofEpochSecond(parseLong(parts[0]), parseLong(parts[1])), parseLong(parts[2]));
+        } catch (ArithmeticException | DateTimeException e) {
+            throw new InvalidCursorException("Invalid cursor: " + cursor);
+        }
+    }
+
+    public static <E, D> PageDTO<D> toPage(List<E> rows, int pageSize, Function<E, D> mapper, Function<E, String> cursorOf) {
+        boolean hasNext = rows.size() > pageSize;
+        List<E> page = hasNext ? rows.subList(0, pageSize) : rows;
+        return new PageDTO<>(
+                page.stream().map(mapper).collect(Collectors.toList()),
+                hasNext ? cursorOf.apply(page.getLast()) : null);
+    }
+
+    private static String encode(String value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String[] decode(String cursor, int expectedParts) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(":");
+            if (parts.length != expectedParts) {
+                throw new InvalidCursorException("Invalid cursor: " + cursor);
+            }
+            return parts;
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("Invalid cursor: " + cursor);
+        }
+    }
+
+    private static long parseLong(String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new InvalidCursorException("Invalid cursor");
+        }
+    }
+}
@@ -12,14 +12,16 @@ import java.time.ZoneId;
 
 @Component
 public class TimeSlotMapper {
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
     public TimeSlotDTO toDTO(TimeSlot timeSlot) {
         if (timeSlot == null) return null;
         
         TimeSlotDTO dto = new TimeSlotDTO();
         dto.setId(timeSlot.getId());
-        dto.setUserId(timeSlot.getCalendar().getUser().getId());
-        dto.setStartTime(timeSlot.getStartTime().atZone(ZoneId.systemDefault()).toLocalDateTime());
-        dto.setEndTime(timeSlot.getEndTime().atZone(ZoneId.systemDefault()).toLocalDateTime());
+        dto.setUserId(timeSlot.getCalendar().getUserId());
+        dto.setStartTime(toLocalDateTime(timeSlot.getStartTime()));
+        dto.setEndTime(toLocalDateTime(timeSlot.getEndTime()));
         dto.setStatus(timeSlot.getStatus());
         return dto;
     }
@@ -30,8 +32,8 @@ public class TimeSlotMapper {
         TimeSlot timeSlot = new TimeSlot();
         timeSlot.setId(dto.getId());
         timeSlot.setCalendar(user.getCalendar());
-        timeSlot.setStartTime(dto.getStartTime().atZone(ZoneId.systemDefault()).toInstant());
-        timeSlot.setEndTime(dto.getEndTime().atZone(ZoneId.systemDefault()).toInstant());
+        timeSlot.setStartTime(toInstant(dto.getStartTime()));
+        timeSlot.setEndTime(toInstant(dto.getEndTime()));
         timeSlot.setStatus(dto.getStatus());
         return timeSlot;
     }
@@ -39,8 +41,8 @@ public class TimeSlotMapper {
     public void updateEntity(TimeSlot timeSlot, TimeSlotDTO dto, Meeting meeting) {
         if (timeSlot == null || dto == null) return;
 
-        timeSlot.setStartTime(dto.getStartTime().atZone(ZoneId.systemDefault()).toInstant());
-        timeSlot.setEndTime(dto.getEndTime().atZone(ZoneId.systemDefault()).toInstant());
+        timeSlot.setStartTime(toInstant(dto.getStartTime()));
+        timeSlot.setEndTime(toInstant(dto.getEndTime()));
         timeSlot.setStatus(dto.getStatus());
 
         if (meeting != null) {
@@ -49,6 +51,10 @@ public class TimeSlotMapper {
     }
 
     public static Instant toInstant(LocalDateTime localDateTime) {
-        return localDateTime.atZone(ZoneId.systemDefault()).toInstant();
+        return localDateTime.atZone(ZONE).toInstant();
+    }
+
+    public static LocalDateTime toLocalDateTime(Instant instant) {
+        return instant.atZone(ZONE).toLocalDateTime();
     }
 } 
\ No newline at end of file
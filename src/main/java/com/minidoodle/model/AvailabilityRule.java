@@ -0,0 +1,121 @@
+package com.minidoodle.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.ToString;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@Entity
+@Table(name = "availability_rules")
+@Data
+@ToString(exclude = {"calendar", "exceptionDates"})
+public class AvailabilityRule {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "availability_rules_id_seq")
+    @SequenceGenerator(name = "availability_rules_id_seq", sequenceName = "availability_rules_id_seq", allocationSize = 50)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "calendar_id", nullable = false)
+    private Calendar calendar;
+
+    @Convert(converter = DayOfWeekSetConverter.class)
+    @Column(nullable = false)
+    private Set<DayOfWeek> daysOfWeek = EnumSet.noneOf(DayOfWeek.class);
+
+    @Column(nullable = false)
+    private LocalTime startTimeOfDay;
+
+    @Column(nullable = false)
+    private Integer durationMinutes;
+
+    @Column(nullable = false)
+    private LocalDate startsOn;
+
+    @Column
+    private LocalDate untilDate;
+
+    @Column
+    private Integer occurrenceCount;
+
+    @ElementCollection
+    @CollectionTable(name = "availability_rule_exceptions", joinColumns = @JoinColumn(name = "rule_id"))
+    @Column(name = "exception_date", nullable = false)
+    private Set<LocalDate> exceptionDates = new HashSet<>();
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private Instant createdAt;
+
+    @UpdateTimestamp
+    @Column(nullable = false)
+    private Instant updatedAt;
+
+    @Transient
+    public Duration getDuration() {
+        return Duration.ofMinutes(durationMinutes);
+    }
+
+    public boolean isValid() {
+        return !daysOfWeek.isEmpty() && startTimeOfDay != null && startsOn != null &&
+               durationMinutes != null && durationMinutes > 0 && durationMinutes < 24 * 60 &&
+               (untilDate == null || !untilDate.isBefore(startsOn)) &&
+               (occurrenceCount == null || occurrenceCount > 0);
+    }
+
+    public List<LocalDateTime> occurrencesBetween(LocalDateTime from, LocalDateTime to) {
+        List<LocalDateTime> occurrences = new ArrayList<>();
+        LocalDate first = occurrenceCount != null || startsOn.isAfter(from.toLocalDate().minusDays(1))
+                ? startsOn
+                : from.toLocalDate().minusDays(1);
+        LocalDate last = untilDate != null && untilDate.isBefore(to.toLocalDate()) ? untilDate : to.toLocalDate();
+
+        int seen = 0;
+        for (LocalDate date = first; !date.isAfter(last); date = date.plusDays(1)) {
+            if (!daysOfWeek.contains(date.getDayOfWeek())) {
+                continue;
+            }
+            if (occurrenceCount != null && ++seen > occurrenceCount) {
+                break;
+            }
+            LocalDateTime start = date.atTime(startTimeOfDay);
+            if (!exceptionDates.contains(date) && start.isBefore(to) && start.plus(getDuration()).isAfter(from)) {
+                occurrences.add(start);
+            }
+        }
+        return occurrences;
+    }
+
+    public boolean isOccurrence(LocalDateTime start) {
+        return occurrencesBetween(start, start.plus(getDuration())).contains(start);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof AvailabilityRule other)) {
+            return false;
+        }
+        return id != null && id.equals(other.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return AvailabilityRule.class.hashCode();
+    }
+}
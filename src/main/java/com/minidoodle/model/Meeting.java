@@ -2,6 +2,10 @@ package com.minidoodle.model;
 
 import jakarta.persistence.*;
 import lombok.Data;
+import lombok.ToString;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 import java.time.Instant;
@@ -9,11 +13,21 @@ import java.util.HashSet;
 import java.util.Set;
 
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "meetings")
+@NamedEntityGraph(
+    name = Meeting.WITH_PARTICIPANTS,
+    attributeNodes = @NamedAttributeNode(value = "participants", subgraph = "participants"),
+    subgraphs = @NamedSubgraph(name = "participants", attributeNodes = @NamedAttributeNode("calendar"))
+)
 @Data
+@ToString(exclude = {"organizer", "timeSlot", "participants"})
 public class Meeting {
+    public static final String WITH_PARTICIPANTS = "Meeting.withParticipants";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "meetings_id_seq")
+    @SequenceGenerator(name = "meetings_id_seq", sequenceName = "meetings_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -26,11 +40,13 @@ public class Meeting {
     @JoinColumn(name = "organizer_id", nullable = false)
     private User organizer;
 
-    @OneToOne
+    @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "time_slot_id", nullable = false, unique = true)
     private TimeSlot timeSlot;
 
     @ManyToMany
+    @BatchSize(size = 500)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @JoinTable(
         name = "meeting_participants",
         joinColumns = @JoinColumn(name = "meeting_id"),
@@ -45,4 +61,20 @@ public class Meeting {
     @UpdateTimestamp
     @Column(nullable = false)
     private Instant updatedAt;
-} 
\ No newline at end of file
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Meeting other)) {
+            return false;
+        }
+        return id != null && id.equals(other.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Meeting.class.hashCode();
+    }
+}
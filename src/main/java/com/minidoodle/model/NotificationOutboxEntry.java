@@ -0,0 +1,63 @@
+package com.minidoodle.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "notification_outbox")
+@Data
+@NoArgsConstructor
+public class NotificationOutboxEntry {
+
+    public NotificationOutboxEntry(NotificationType type, Long recipientId, Long meetingId, Instant availableAt) {
+        this.type = type;
+        this.recipientId = recipientId;
+        this.meetingId = meetingId;
+        this.availableAt = availableAt;
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notification_outbox_id_seq")
+    @SequenceGenerator(name = "notification_outbox_id_seq", sequenceName = "notification_outbox_id_seq", allocationSize = 50)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private NotificationType type;
+
+    @Column(nullable = false)
+    private Long recipientId;
+
+    @Column(nullable = false)
+    private Long meetingId;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(nullable = false)
+    private Instant availableAt;
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private Instant createdAt;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof NotificationOutboxEntry other)) {
+            return false;
+        }
+        return id != null && id.equals(other.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return NotificationOutboxEntry.class.hashCode();
+    }
+}
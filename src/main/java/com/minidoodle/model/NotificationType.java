@@ -0,0 +1,8 @@
+package com.minidoodle.model;
+
+public enum NotificationType {
+    MEETING_INVITATION,
+    MEETING_RESCHEDULED,
+    MEETING_CANCELLATION,
+    MEETING_ACCEPTANCE
+}
\ No newline at end of file
@@ -11,10 +11,11 @@ import java.time.Instant;
 @Entity
 @Table(name = "time_slots")
 @Data
-@ToString(exclude = "meeting")
+@ToString(exclude = {"calendar", "meeting", "bookedMeeting"})
 public class TimeSlot {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "time_slots_id_seq")
+    @SequenceGenerator(name = "time_slots_id_seq", sequenceName = "time_slots_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -27,6 +28,9 @@ public class TimeSlot {
     @Column(nullable = false)
     private Instant endTime;
 
+    @Column(name = "time_range", columnDefinition = "tsrange", insertable = false, updatable = false)
+    private String timeRange;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private TimeSlotStatus status = TimeSlotStatus.AVAILABLE;
@@ -34,6 +38,14 @@ public class TimeSlot {
     @OneToOne(mappedBy = "timeSlot", cascade = CascadeType.ALL)
     private Meeting meeting;
 
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "booked_meeting_id")
+    private Meeting bookedMeeting;
+
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     @CreationTimestamp
     @Column(nullable = false, updatable = false)
     private Instant createdAt;
@@ -68,4 +80,20 @@ public class TimeSlot {
         }
         this.endTime = startTime.plus(duration);
     }
-}
\ No newline at end of file
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof TimeSlot other)) {
+            return false;
+        }
+        return id != null && id.equals(other.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return TimeSlot.class.hashCode();
+    }
+}
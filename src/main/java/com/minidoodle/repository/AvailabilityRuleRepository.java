@@ -0,0 +1,18 @@
+package com.minidoodle.repository;
+
+import com.minidoodle.model.AvailabilityRule;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import java.util.List;
+
+@Repository
+public interface AvailabilityRuleRepository extends JpaRepository<AvailabilityRule, Long> {
+    @EntityGraph(attributePaths = "exceptionDates")
+    List<AvailabilityRule> findByCalendarId(Long calendarId);
+
+    @EntityGraph(attributePaths = {"calendar", "exceptionDates"})
+    @Query("SELECT r FROM AvailabilityRule r WHERE r.calendar.id = :userId")
+    List<AvailabilityRule> findByCalendarUserId(Long userId);
+}
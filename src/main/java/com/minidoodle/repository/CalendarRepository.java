@@ -2,8 +2,18 @@ package com.minidoodle.repository;
 
 import com.minidoodle.model.Calendar;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 
 public interface CalendarRepository extends JpaRepository<Calendar, Long> {
+    @Query("SELECT c FROM Calendar c WHERE c.id = :userId")
     List<Calendar> findByUserId(Long userId);
-} 
\ No newline at end of file
+
+    @Query("SELECT c.id FROM Calendar c WHERE c.id = :userId")
+    Optional<Long> findIdByUserId(Long userId);
+
+    @Query("SELECT c.updatedAt FROM Calendar c WHERE c.id = :userId")
+    Optional<Instant> findUpdatedAtByUserId(Long userId);
+}
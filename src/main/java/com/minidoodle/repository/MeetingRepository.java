@@ -1,18 +1,32 @@
 package com.minidoodle.repository;
 
 import com.minidoodle.model.Meeting;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 @Repository
 public interface MeetingRepository extends JpaRepository<Meeting, Long> {
-    List<Meeting> findByOrganizerId(Long organizerId);
-    
-    @Query("SELECT m FROM Meeting m JOIN m.participants p WHERE p.id = :participantId")
-    List<Meeting> findByParticipantId(Long participantId);
-    
     Set<Meeting> findByTimeSlotId(Long timeSlotId);
+
+    @EntityGraph(Meeting.WITH_PARTICIPANTS)
+    Optional<Meeting> findWithParticipantsById(Long id);
+
+    @EntityGraph(attributePaths = "organizer")
+    List<Meeting> findWithOrganizerByIdIn(Collection<Long> ids);
+
+    List<Meeting> findByOrganizerIdAndIdGreaterThanOrderByIdAsc(Long organizerId, Long id, Limit limit);
+
+    @Query("SELECT m FROM Meeting m JOIN m.participants p WHERE p.id = :participantId AND m.id > :id ORDER BY m.id")
+    List<Meeting> findByParticipantIdAndIdGreaterThan(Long participantId, Long id, Limit limit);
+
+    @Query("SELECT m.updatedAt FROM Meeting m WHERE m.id = :id")
+    Optional<Instant> findUpdatedAtById(Long id);
 } 
\ No newline at end of file
@@ -0,0 +1,24 @@
+package com.minidoodle.repository;
+
+import com.minidoodle.model.NotificationOutboxEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutboxEntry, Long> {
+
+    @Query(value = "WITH candidates AS MATERIALIZED (" +
+            "SELECT DISTINCT recipient_id FROM (" +
+            "SELECT recipient_id FROM notification_outbox WHERE available_at <= :now ORDER BY available_at, id LIMIT :limit) due), " +
+            "recipients AS MATERIALIZED (" +
+            "SELECT recipient_id FROM candidates WHERE pg_try_advisory_xact_lock(recipient_id)) " +
+            "SELECT o.* FROM notification_outbox o JOIN recipients r ON r.recipient_id = o.recipient_id " +
+            "WHERE o.available_at <= :now OR o.attempts = 0 " +
+            "ORDER BY o.recipient_id, o.id LIMIT :limit FOR UPDATE OF o",
+            nativeQuery = true)
+    List<NotificationOutboxEntry> claimBatch(Instant now, int limit);
+}
@@ -1,38 +1,117 @@
 package com.minidoodle.repository;
 
+import com.minidoodle.cache.TimeSlotInterval;
+import com.minidoodle.dto.CalendarFeedEntry;
+import com.minidoodle.dto.FreeBusyEntry;
+import com.minidoodle.dto.TimeSlotDTO;
+import com.minidoodle.model.Meeting;
 import com.minidoodle.model.TimeSlot;
 import com.minidoodle.model.TimeSlotStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface TimeSlotRepository extends JpaRepository<TimeSlot, Long> {
-    List<TimeSlot> findByCalendarId(Long calendarId);
-    
-    @Query("SELECT ts FROM TimeSlot ts WHERE ts.calendar.id = :calendarId AND ts.startTime >= :startTime AND ts.endTime <= :endTime")
-    List<TimeSlot> findAvailableSlotsInTimeRange(Long calendarId, Instant startTime, Instant endTime);
-    
-    List<TimeSlot> findByCalendarIdAndStatus(Long calendarId, TimeSlotStatus status);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.minidoodle.dto.CalendarFeedEntry(ts.id, ts.startTime, ts.endTime, ts.status, ts.updatedAt, m.title, m.description) " +
+           "FROM TimeSlot ts LEFT JOIN ts.meeting m " +
+           "WHERE ts.calendar.id = :userId ORDER BY ts.startTime, ts.id")
+    Stream<CalendarFeedEntry> streamFeedEntriesByUserId(Long userId);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.minidoodle.dto.FreeBusyEntry(ts.calendar.id, ts.startTime, ts.endTime) " +
+           "FROM TimeSlot ts " +
+           "WHERE ts.calendar.id IN :userIds " +
+           "AND ts.status <> com.minidoodle.model.TimeSlotStatus.AVAILABLE " +
+           "AND range_overlaps(ts.timeRange, :startTime, :endTime) " +
+           "ORDER BY ts.calendar.id, ts.startTime")
+    Stream<FreeBusyEntry> streamBusyEntriesByUserIds(@Param("userIds") Collection<Long> userIds, @Param("startTime") Instant startTime, @Param("endTime") Instant endTime);
+
+    @Query("SELECT ts FROM TimeSlot ts JOIN FETCH ts.calendar c JOIN FETCH c.user u LEFT JOIN FETCH ts.meeting " +
+           "WHERE ts.calendar.id = :userId ORDER BY ts.startTime, ts.id")
+    List<TimeSlot> findPageByUserId(Long userId, Limit limit);
+
+    @Query("SELECT ts FROM TimeSlot ts JOIN FETCH ts.calendar c JOIN FETCH c.user u LEFT JOIN FETCH ts.meeting " +
+           "WHERE ts.calendar.id = :userId " +
+           "AND (ts.startTime, ts.id) > (:startTime, :id) " +
+           "ORDER BY ts.startTime, ts.id")
+    List<TimeSlot> findPageByUserIdAfter(Long userId, Instant startTime, Long id, Limit limit);
+
+    @Query("SELECT new com.minidoodle.cache.TimeSlotInterval(ts.id, ts.startTime, ts.endTime, ts.status) " +
+           "FROM TimeSlot ts WHERE ts.calendar.id = :calendarId")
+    List<TimeSlotInterval> findIntervalsByCalendarId(Long calendarId);
     
-    default List<TimeSlot> findAvailableTimeSlots(Long calendarId) {
-        return findByCalendarIdAndStatus(calendarId, TimeSlotStatus.AVAILABLE);
-    }
+    @Query("SELECT new com.minidoodle.dto.TimeSlotDTO(ts.id, ts.calendar.id, ts.startTime, ts.endTime, ts.status) " +
+           "FROM TimeSlot ts WHERE ts.id = :id")
+    Optional<TimeSlotDTO> findDTOById(Long id);
+
+    @Query("SELECT ts.calendar.id FROM TimeSlot ts WHERE ts.id = :id")
+    Optional<Long> findCalendarIdById(Long id);
+
+    @Query("SELECT new com.minidoodle.dto.TimeSlotDTO(ts.id, ts.calendar.id, ts.startTime, ts.endTime, ts.status) " +
+           "FROM TimeSlot ts WHERE ts.calendar.id = :calendarId AND range_contained_by(ts.timeRange, :startTime, :endTime)")
+    List<TimeSlotDTO> findAvailableSlotsInTimeRange(Long calendarId, Instant startTime, Instant endTime);
+
+    @Query("SELECT new com.minidoodle.dto.TimeSlotDTO(ts.id, ts.calendar.id, ts.startTime, ts.endTime, ts.status) " +
+           "FROM TimeSlot ts WHERE ts.calendar.id = :calendarId AND ts.status = com.minidoodle.model.TimeSlotStatus.AVAILABLE")
+    List<TimeSlotDTO> findAvailableTimeSlots(Long calendarId);
 
     @Query("SELECT ts FROM TimeSlot ts " +
            "JOIN FETCH ts.calendar c " +
            "JOIN FETCH c.user u " +
-           "WHERE u.id = :userId " +
+           "LEFT JOIN FETCH ts.meeting " +
+           "WHERE c.id = :userId " +
            "AND ts.status = :status " +
-           "AND ((ts.startTime <= :endTime AND ts.endTime >= :startTime) " +
-           "OR (ts.startTime >= :startTime AND ts.endTime <= :endTime)) " +
+           "AND range_overlaps(ts.timeRange, :startTime, :endTime) " +
            "ORDER BY ts.startTime")
     List<TimeSlot> findAvailableTimeSlotsByUserIdAndTimeRange(
             @Param("userId") Long userId,
             @Param("startTime") Instant startTime,
             @Param("endTime") Instant endTime,
             @Param("status") TimeSlotStatus status);
-} 
\ No newline at end of file
+
+    @Query("SELECT ts FROM TimeSlot ts " +
+           "JOIN FETCH ts.calendar c " +
+           "JOIN FETCH c.user u " +
+           "LEFT JOIN FETCH ts.meeting " +
+           "WHERE c.id IN :userIds " +
+           "AND ts.status = :status " +
+           "AND range_overlaps(ts.timeRange, :startTime, :endTime) " +
+           "ORDER BY ts.startTime")
+    List<TimeSlot> findTimeSlotsByUserIdsAndTimeRange(
+            @Param("userIds") Collection<Long> userIds,
+            @Param("startTime") Instant startTime,
+            @Param("endTime") Instant endTime,
+            @Param("status") TimeSlotStatus status);
+
+    @Query("SELECT ts FROM TimeSlot ts " +
+           "LEFT JOIN FETCH ts.meeting " +
+           "WHERE ts.bookedMeeting.id = :meetingId " +
+           "AND ts.calendar.id IN :userIds " +
+           "AND ts.status <> com.minidoodle.model.TimeSlotStatus.AVAILABLE " +
+           "ORDER BY ts.startTime")
+    List<TimeSlot> findBookedTimeSlotsByMeetingIdAndUserIds(
+            @Param("meetingId") Long meetingId,
+            @Param("userIds") Collection<Long> userIds);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE TimeSlot ts SET ts.status = :status, ts.bookedMeeting = :meeting, ts.updatedAt = :updatedAt, ts.version = ts.version + 1 " +
+           "WHERE ts.id IN :ids AND ts.status = com.minidoodle.model.TimeSlotStatus.AVAILABLE")
+    int bookAvailableTimeSlots(
+            @Param("ids") Collection<Long> ids,
+            @Param("status") TimeSlotStatus status,
+            @Param("meeting") Meeting meeting,
+            @Param("updatedAt") Instant updatedAt);
+}
@@ -1,11 +1,22 @@
 package com.minidoodle.repository;
 
 import com.minidoodle.model.User;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
+    @EntityGraph(attributePaths = "calendar")
     Optional<User> findByEmail(String email);
+
+    @Override
+    @EntityGraph(attributePaths = "calendar")
+    List<User> findAllById(Iterable<Long> ids);
+
+    @EntityGraph(attributePaths = "calendar")
+    List<User> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
 }
\ No newline at end of file
@@ -0,0 +1,19 @@
+package com.minidoodle.service;
+
+import com.minidoodle.dto.AvailabilityRuleDTO;
+import com.minidoodle.dto.TimeSlotDTO;
+import com.minidoodle.model.TimeSlot;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface AvailabilityRuleService {
+    AvailabilityRuleDTO createRule(AvailabilityRuleDTO ruleDTO);
+    void deleteRule(Long id);
+    List<AvailabilityRuleDTO> getRulesByUserId(Long userId);
+    List<TimeSlotDTO> expandAvailability(Long userId, Long calendarId, LocalDateTime startTime, LocalDateTime endTime);
+    TimeSlotDTO materializeOccurrence(Long ruleId, LocalDateTime occurrenceStart);
+    Optional<TimeSlot> materializeOverlappingOccurrence(Long userId, Instant startTime, Instant endTime);
+}
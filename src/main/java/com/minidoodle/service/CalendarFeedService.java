@@ -0,0 +1,10 @@
+package com.minidoodle.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Instant;
+
+public interface CalendarFeedService {
+    Instant getLastModified(Long userId);
+    void writeCalendar(Long userId, OutputStream outputStream) throws IOException;
+}
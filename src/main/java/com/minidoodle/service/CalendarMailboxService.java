@@ -0,0 +1,9 @@
+package com.minidoodle.service;
+
+import java.util.function.Supplier;
+
+public interface CalendarMailboxService {
+    <T> T submitForUser(Long userId, Supplier<T> mutation);
+    <T> T submitForTimeSlot(Long timeSlotId, Supplier<T> mutation);
+    int pendingMutations(Long calendarId);
+}
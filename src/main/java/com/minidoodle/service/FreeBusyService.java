@@ -0,0 +1,10 @@
+package com.minidoodle.service;
+
+import com.minidoodle.dto.FreeBusyRequestDTO;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface FreeBusyService {
+    void writeFreeBusy(FreeBusyRequestDTO request, OutputStream outputStream) throws IOException;
+}
@@ -1,16 +1,16 @@
 package com.minidoodle.service;
 
 import com.minidoodle.dto.MeetingDTO;
-
-import java.util.List;
+import com.minidoodle.dto.PageDTO;
 
 public interface MeetingService {
     MeetingDTO createMeeting(MeetingDTO meetingDTO);
     MeetingDTO updateMeeting(Long id, MeetingDTO meetingDTO);
     void deleteMeeting(Long id);
     MeetingDTO getMeetingById(Long id);
-    List<MeetingDTO> getMeetingsByOrganizerId(Long organizerId);
-    List<MeetingDTO> getMeetingsByParticipantId(Long participantId);
+    String getMeetingVersion(Long id);
+    PageDTO<MeetingDTO> getMeetingsByOrganizerId(Long organizerId, String cursor, Integer limit);
+    PageDTO<MeetingDTO> getMeetingsByParticipantId(Long participantId, String cursor, Integer limit);
     MeetingDTO addParticipant(Long meetingId, Long userId);
     MeetingDTO removeParticipant(Long meetingId, Long userId);
     MeetingDTO acceptInvitation(Long meetingId, Long participantId);
@@ -0,0 +1,10 @@
+package com.minidoodle.service;
+
+import com.minidoodle.dto.MeetingSuggestionDTO;
+import com.minidoodle.dto.MeetingSuggestionRequestDTO;
+
+import java.util.List;
+
+public interface MeetingSuggestionService {
+    List<MeetingSuggestionDTO> suggestMeetingTimes(MeetingSuggestionRequestDTO request);
+}
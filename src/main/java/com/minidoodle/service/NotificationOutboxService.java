@@ -0,0 +1,12 @@
+package com.minidoodle.service;
+
+import com.minidoodle.model.Meeting;
+import com.minidoodle.model.NotificationType;
+import com.minidoodle.model.User;
+
+import java.util.Collection;
+
+public interface NotificationOutboxService {
+    void enqueue(NotificationType type, Collection<User> recipients, Meeting meeting);
+    int dispatchPending();
+}
@@ -1,10 +1,13 @@
 package com.minidoodle.service;
 
+import com.minidoodle.dto.MeetingNotification;
 import com.minidoodle.model.Meeting;
 import com.minidoodle.model.User;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 public interface NotificationService {
     CompletableFuture<Void> sendMeetingInvitation(User user, Meeting meeting);
     CompletableFuture<Void> sendMeetingAcceptance(User user, Meeting meeting);
-} 
\ No newline at end of file
+    CompletableFuture<Void> sendMeetingDigest(User user, List<MeetingNotification> notifications);
+}
\ No newline at end of file
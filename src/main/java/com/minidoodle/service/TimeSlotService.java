@@ -1,5 +1,6 @@
 package com.minidoodle.service;
 
+import com.minidoodle.dto.PageDTO;
 import com.minidoodle.dto.TimeSlotDTO;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -9,8 +10,10 @@ public interface TimeSlotService {
     TimeSlotDTO updateTimeSlot(Long id, TimeSlotDTO timeSlotDTO);
     void deleteTimeSlot(Long id);
     TimeSlotDTO getTimeSlotById(Long id);
-    List<TimeSlotDTO> getTimeSlotsByUserId(Long userId);
-    List<TimeSlotDTO> getAvailableTimeSlots(Long userId);
+    String getCalendarVersion(Long userId);
+    String getAvailableTimeSlotsVersion(Long userId);
+    PageDTO<TimeSlotDTO> getTimeSlotsByUserId(Long userId, String cursor, Integer limit);
+    List<TimeSlotDTO> getAvailableTimeSlots(Long userId, String version);
     List<TimeSlotDTO> getTimeSlotsInRange(Long userId, LocalDateTime startTime, LocalDateTime endTime);
     TimeSlotDTO markTimeSlotAsBusy(Long id);
     TimeSlotDTO markTimeSlotAsAvailable(Long id);
@@ -1,15 +1,15 @@
 package com.minidoodle.service;
 
+import com.minidoodle.dto.PageDTO;
 import com.minidoodle.dto.UserDTO;
 
-import java.util.List;
 import java.util.Optional;
 
 public interface UserService {
     UserDTO createUser(UserDTO userDTO);
     Optional<UserDTO> getUserById(Long id);
     Optional<UserDTO> getUserByEmail(String email);
-    List<UserDTO> getAllUsers();
+    PageDTO<UserDTO> getAllUsers(String cursor, Integer limit);
     UserDTO updateUser(Long id, UserDTO userDTO);
     void deleteUser(Long id);
 } 
\ No newline at end of file
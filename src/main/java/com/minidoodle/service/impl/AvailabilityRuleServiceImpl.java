@@ -0,0 +1,136 @@
+package com.minidoodle.service.impl;
+
+import com.minidoodle.cache.TimeSlotIndex;
+import com.minidoodle.dto.AvailabilityRuleDTO;
+import com.minidoodle.dto.TimeSlotDTO;
+import com.minidoodle.event.AvailabilityRuleChangedEvent;
+import com.minidoodle.event.TimeSlotChangedEvent;
+import com.minidoodle.exception.TimeSlotException;
+import com.minidoodle.mapper.AvailabilityRuleMapper;
+import com.minidoodle.mapper.TimeSlotMapper;
+import com.minidoodle.model.AvailabilityRule;
+import com.minidoodle.model.TimeSlot;
+import com.minidoodle.model.TimeSlotStatus;
+import com.minidoodle.model.User;
+import com.minidoodle.repository.AvailabilityRuleRepository;
+import com.minidoodle.repository.TimeSlotRepository;
+import com.minidoodle.repository.UserRepository;
+import com.minidoodle.service.AvailabilityRuleService;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static com.minidoodle.mapper.TimeSlotMapper.toInstant;
+import static com.minidoodle.mapper.TimeSlotMapper.toLocalDateTime;
+
+@Service
+@RequiredArgsConstructor
+public class AvailabilityRuleServiceImpl implements AvailabilityRuleService {
+    private final AvailabilityRuleRepository availabilityRuleRepository;
+    private final TimeSlotRepository timeSlotRepository;
+    private final UserRepository userRepository;
+    private final AvailabilityRuleMapper availabilityRuleMapper;
+    private final TimeSlotMapper timeSlotMapper;
+    private final TimeSlotIndex timeSlotIndex;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    @Transactional
+    public AvailabilityRuleDTO createRule(AvailabilityRuleDTO ruleDTO) {
+        User user = userRepository.findById(ruleDTO.getUserId())
+                .orElseThrow(() -> new EntityNotFoundException("User not found with id: " + ruleDTO.getUserId()));
+        AvailabilityRule rule = availabilityRuleMapper.toEntity(ruleDTO, user);
+
+        if (!rule.isValid()) {
+            throw new TimeSlotException("availability rule is not valid");
+        }
+        AvailabilityRule createdRule = availabilityRuleRepository.save(rule);
+        eventPublisher.publishEvent(new AvailabilityRuleChangedEvent(createdRule.getCalendar().getId()));
+        return availabilityRuleMapper.toDTO(createdRule);
+    }
+
+    @Override
+    @Transactional
+    public void deleteRule(Long id) {
+        AvailabilityRule rule = availabilityRuleRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Availability rule not found with id: " + id));
+        availabilityRuleRepository.delete(rule);
+        eventPublisher.publishEvent(new AvailabilityRuleChangedEvent(rule.getCalendar().getId()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<AvailabilityRuleDTO> getRulesByUserId(Long userId) {
+        return availabilityRuleRepository.findByCalendarUserId(userId).stream()
+                .map(availabilityRuleMapper::toDTO)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<TimeSlotDTO> expandAvailability(Long userId, Long calendarId, LocalDateTime startTime, LocalDateTime endTime) {
+        List<TimeSlotDTO> occurrences = new ArrayList<>();
+        for (AvailabilityRule rule : availabilityRuleRepository.findByCalendarId(calendarId)) {
+            for (LocalDateTime occurrenceStart : rule.occurrencesBetween(startTime, endTime)) {
+                LocalDateTime occurrenceEnd = occurrenceStart.plus(rule.getDuration());
+                if (occurrenceStart.isBefore(startTime) || occurrenceEnd.isAfter(endTime) ||
+                        timeSlotIndex.intersectsAny(userId, toInstant(occurrenceStart), toInstant(occurrenceEnd))) {
+                    continue;
+                }
+                occurrences.add(availabilityRuleMapper.toVirtualTimeSlot(rule, userId, occurrenceStart));
+            }
+        }
+        occurrences.sort(Comparator.comparing(TimeSlotDTO::getStartTime));
+        return occurrences;
+    }
+
+    @Override
+    @Transactional
+    public TimeSlotDTO materializeOccurrence(Long ruleId, LocalDateTime occurrenceStart) {
+        AvailabilityRule rule = availabilityRuleRepository.findById(ruleId)
+                .orElseThrow(() -> new EntityNotFoundException("Availability rule not found with id: " + ruleId));
+        if (!rule.isOccurrence(occurrenceStart)) {
+            throw new TimeSlotException(occurrenceStart + " is not an open occurrence of availability rule " + ruleId);
+        }
+        return timeSlotMapper.toDTO(materialize(rule, occurrenceStart));
+    }
+
+    @Override
+    @Transactional
+    public Optional<TimeSlot> materializeOverlappingOccurrence(Long userId, Instant startTime, Instant endTime) {
+        LocalDateTime from = toLocalDateTime(startTime);
+        LocalDateTime to = toLocalDateTime(endTime);
+        for (AvailabilityRule rule : availabilityRuleRepository.findByCalendarUserId(userId)) {
+            for (LocalDateTime occurrenceStart : rule.occurrencesBetween(from, to)) {
+                if (!timeSlotIndex.intersectsAny(userId, toInstant(occurrenceStart), toInstant(occurrenceStart.plus(rule.getDuration())))) {
+                    return Optional.of(materialize(rule, occurrenceStart));
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    private TimeSlot materialize(AvailabilityRule rule, LocalDateTime occurrenceStart) {
+        rule.getExceptionDates().add(occurrenceStart.toLocalDate());
+
+        TimeSlot timeSlot = new TimeSlot();
+        timeSlot.setCalendar(rule.getCalendar());
+        timeSlot.setStartTime(toInstant(occurrenceStart));
+        timeSlot.setEndTime(toInstant(occurrenceStart.plus(rule.getDuration())));
+        timeSlot.setStatus(TimeSlotStatus.AVAILABLE);
+
+        TimeSlot createdTimeSlot = timeSlotRepository.save(timeSlot);
+        eventPublisher.publishEvent(TimeSlotChangedEvent.saved(createdTimeSlot));
+        return createdTimeSlot;
+    }
+}
@@ -0,0 +1,107 @@
+package com.minidoodle.service.impl;
+
+import com.minidoodle.dto.CalendarFeedEntry;
+import com.minidoodle.model.TimeSlotStatus;
+import com.minidoodle.repository.CalendarRepository;
+import com.minidoodle.repository.TimeSlotRepository;
+import com.minidoodle.service.CalendarFeedService;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+public class CalendarFeedServiceImpl implements CalendarFeedService {
+    private static final DateTimeFormatter ICS_DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'").withZone(ZoneOffset.UTC);
+    private static final int MAX_LINE_LENGTH = 75;
+
+    private final CalendarRepository calendarRepository;
+    private final TimeSlotRepository timeSlotRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Instant getLastModified(Long userId) {
+        return calendarRepository.findUpdatedAtByUserId(userId)
+                .orElseThrow(() -> new EntityNotFoundException("Calendar not found for user with id: " + userId));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void writeCalendar(Long userId, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        writeLine(writer, "BEGIN:VCALENDAR");
+        writeLine(writer, "VERSION:2.0");
+        writeLine(writer, "PRODID:-//mini-doodle//calendar feed//EN");
+        writeLine(writer, "CALSCALE:GREGORIAN");
+        writeLine(writer, "X-WR-CALNAME:mini-doodle user " + userId);
+
+        try (Stream<CalendarFeedEntry> entries = timeSlotRepository.streamFeedEntriesByUserId(userId)) {
+            Iterator<CalendarFeedEntry> iterator = entries.iterator();
+            while (iterator.hasNext()) {
+                writeEvent(writer, iterator.next());
+            }
+        }
+
+        writeLine(writer, "END:VCALENDAR");
+        writer.flush();
+    }
+
+    private static void writeEvent(Writer writer, CalendarFeedEntry entry) throws IOException {
+        writeLine(writer, "BEGIN:VEVENT");
+        writeLine(writer, "UID:timeslot-" + entry.getTimeSlotId() + "@minidoodle");
+        writeLine(writer, "DTSTAMP:" + ICS_DATE_TIME.format(entry.getUpdatedAt()));
+        writeLine(writer, "DTSTART:" + ICS_DATE_TIME.format(entry.getStartTime()));
+        writeLine(writer, "DTEND:" + ICS_DATE_TIME.format(entry.getEndTime()));
+        writeLine(writer, "SUMMARY:" + escape(entry.getMeetingTitle() != null ? entry.getMeetingTitle() : summaryOf(entry.getStatus())));
+        if (entry.getMeetingDescription() != null) {
+            writeLine(writer, "DESCRIPTION:" + escape(entry.getMeetingDescription()));
+        }
+        writeLine(writer, "STATUS:" + (entry.getStatus() == TimeSlotStatus.AVAILABLE ? "TENTATIVE" : "CONFIRMED"));
+        writeLine(writer, "TRANSP:" + (entry.getStatus() == TimeSlotStatus.AVAILABLE ? "TRANSPARENT" : "OPAQUE"));
+        writeLine(writer, "END:VEVENT");
+    }
+
+    private static String summaryOf(TimeSlotStatus status) {
+        return switch (status) {
+            case AVAILABLE -> "Available";
+            case BUSY -> "Busy";
+            case BOOKED -> "Booked";
+        };
+    }
+
+    private static String escape(String text) {
+        return text.replace("\\", "\\\\")
+                .replace(";", "\\;")
+                .replace(",", "\\,")
+                .replace("\r\n", "\\n")
+                .replace("\n", "\\n");
+    }
+
+    private static void writeLine(Writer writer, String line) throws IOException {
+        int start = 0;
+        while (line.length() - start > MAX_LINE_LENGTH) {
+            int end = start + MAX_LINE_LENGTH - (start == 0 ? 0 : 1);
+            if (Character.isHighSurrogate(line.charAt(end - 1))) {
+                end--;
+            }
+            writer.write(line, start, end - start);
+            writer.write("\r\n ");
+            start = end;
+        }
+        writer.write(line, start, line.length() - start);
+        writer.write("\r\n");
+    }
+}
@@ -0,0 +1,201 @@
+package com.minidoodle.service.impl;
+
+import com.minidoodle.repository.TimeSlotRepository;
+import com.minidoodle.service.CalendarMailboxService;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+@Slf4j
+@Service
+public class CalendarMailboxServiceImpl implements CalendarMailboxService {
+    private final TimeSlotRepository timeSlotRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int capacity;
+    private final int maxBatchSize;
+    private final Duration offerTimeout;
+    private final Duration timeout;
+    private final ConcurrentMap<Long, Mailbox> mailboxes = new ConcurrentHashMap<>();
+
+    public CalendarMailboxServiceImpl(
+            TimeSlotRepository timeSlotRepository,
+            EntityManager entityManager,
+            PlatformTransactionManager transactionManager,
+            @Value("${minidoodle.calendar-mailbox.enabled:false}") boolean enabled,
+            @Value("${minidoodle.calendar-mailbox.capacity:256}") int capacity,
+            @Value("${minidoodle.calendar-mailbox.max-batch-size:32}") int maxBatchSize,
+            @Value("${minidoodle.calendar-mailbox.offer-timeout:5s}") Duration offerTimeout,
+            @Value("${minidoodle.calendar-mailbox.timeout:30s}") Duration timeout) {
+        this.timeSlotRepository = timeSlotRepository;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setTimeout((int) Math.max(timeout.toSeconds(), 1));
+        this.enabled = enabled;
+        this.capacity = capacity;
+        this.maxBatchSize = maxBatchSize;
+        this.offerTimeout = offerTimeout;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public <T> T submitForUser(Long userId, Supplier<T> mutation) {
+        return enabled ? submit(Optional.of(userId), mutation) : mutation.get();
+    }
+
+    @Override
+    public <T> T submitForTimeSlot(Long timeSlotId, Supplier<T> mutation) {
+        return enabled ? submit(timeSlotRepository.findCalendarIdById(timeSlotId), mutation) : mutation.get();
+    }
+
+    @Override
+    public int pendingMutations(Long calendarId) {
+        Mailbox mailbox = mailboxes.get(calendarId);
+        return mailbox == null ? 0 : mailbox.queue.size();
+    }
+
+    public int activeMailboxes() {
+        return mailboxes.size();
+    }
+
+    private <T> T submit(Optional<Long> calendarId, Supplier<T> mutation) {
+        if (calendarId.isEmpty()) {
+            return mutation.get();
+        }
+        Mailbox mailbox = mailboxes.compute(calendarId.get(), (id, current) -> {
+            Mailbox acquired = current != null ? current : new Mailbox(id, capacity);
+            acquired.pending.incrementAndGet();
+            return acquired;
+        });
+        Mutation<T> task = new Mutation<>(mutation);
+        try {
+            if (!mailbox.queue.offer(task, offerTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                release(mailbox, 1);
+                throw new RejectedExecutionException("Calendar " + mailbox.calendarId + " has " + capacity + " pending changes, please retry");
+            }
+        } catch (InterruptedException e) {
+            release(mailbox, 1);
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("Interrupted while queueing a change for calendar " + mailbox.calendarId, e);
+        }
+        if (mailbox.draining.compareAndSet(false, true)) {
+            Thread.ofVirtual().name("calendar-mailbox-" + mailbox.calendarId).start(() -> drain(mailbox));
+        }
+        return await(mailbox, task);
+    }
+
+    private <T> T await(Mailbox mailbox, Mutation<T> task) {
+        try {
+            try {
+                return task.result().get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                if (task.claim()) {
+                    throw new RejectedExecutionException("Calendar " + mailbox.calendarId + " did not get to this change within " + timeout + ", please retry");
+                }
+                return task.result().get();
+            }
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("Interrupted while waiting for a change to calendar " + mailbox.calendarId, e);
+        }
+    }
+
+    private void drain(Mailbox mailbox) {
+        do {
+            List<Mutation<?>> batch = new ArrayList<>(maxBatchSize);
+            while (mailbox.queue.drainTo(batch, maxBatchSize) > 0) {
+                List<Mutation<?>> claimed = batch.stream().filter(Mutation::claim).toList();
+                if (!claimed.isEmpty()) {
+                    execute(claimed);
+                }
+                release(mailbox, batch.size());
+                batch.clear();
+            }
+            mailbox.draining.set(false);
+        } while (!mailbox.queue.isEmpty() && mailbox.draining.compareAndSet(false, true));
+    }
+
+    private void release(Mailbox mailbox, int mutations) {
+        mailboxes.compute(mailbox.calendarId, (id, current) ->
+                mailbox.pending.addAndGet(-mutations) == 0 && current == mailbox ? null : current);
+    }
+
+    private void execute(List<Mutation<?>> batch) {
+        try {
+            List<Object> results = transactionTemplate.execute(status -> {
+                List<Object> applied = new ArrayList<>(batch.size());
+                for (Mutation<?> mutation : batch) {
+                    applied.add(mutation.change().get());
+                    entityManager.flush();
+                    entityManager.clear();
+                }
+                return applied;
+            });
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).complete(results.get(i));
+            }
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                batch.getFirst().result().completeExceptionally(e);
+                return;
+            }
+            log.debug("Batch of {} calendar changes failed, retrying them one by one", batch.size(), e);
+            batch.forEach(this::executeAlone);
+        }
+    }
+
+    private void executeAlone(Mutation<?> mutation) {
+        try {
+            mutation.complete(transactionTemplate.execute(status -> mutation.change().get()));
+        } catch (RuntimeException e) {
+            mutation.result().completeExceptionally(e);
+        }
+    }
+
+    private record Mailbox(Long calendarId, BlockingQueue<Mutation<?>> queue, AtomicBoolean draining, AtomicInteger pending) {
+        Mailbox(Long calendarId, int capacity) {
+            this(calendarId, new LinkedBlockingQueue<>(capacity), new AtomicBoolean(), new AtomicInteger());
+        }
+    }
+
+    private record Mutation<T>(Supplier<T> change, CompletableFuture<T> result, AtomicBoolean claimed) {
+        Mutation(Supplier<T> change) {
+            this(change, new CompletableFuture<>(), new AtomicBoolean());
+        }
+
+        boolean claim() {
+            return claimed.compareAndSet(false, true);
+        }
+
+        @SuppressWarnings("unchecked")
+        void complete(Object value) {
+            result.complete((T) value);
+        }
+    }
+}
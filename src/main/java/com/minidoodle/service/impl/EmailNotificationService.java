@@ -1,61 +1,102 @@
 package com.minidoodle.service.impl;
 
+import com.minidoodle.dto.MeetingNotification;
 import com.minidoodle.model.Meeting;
 import com.minidoodle.model.User;
 import com.minidoodle.service.NotificationService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 
 @Slf4j
 @Service
+@RequiredArgsConstructor
 public class EmailNotificationService implements NotificationService {
+    private final MeterRegistry meterRegistry;
 
     @Override
     @Async
     public CompletableFuture<Void> sendMeetingInvitation(User user, Meeting meeting) {
-        return CompletableFuture.runAsync(() -> {
-            try {
-                log.info("Sending meeting invitation email to participant: {} in meeting: {}",
-                    user.getName(),
-                    meeting.getTitle());
-
-                Thread.sleep(100);
-
-                log.info("Email content: You have been invited to '{}' by {}. ",
-                    meeting.getTitle(), meeting.getOrganizer().getName());
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                throw new CompletionException("Failed to send meeting invitation email", e);
-            } catch (Exception e) {
-                log.error("Error sending meeting invitation email", e);
-                throw new CompletionException("Failed to send meeting invitation email", e);
-            }
-        });
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            log.info("Sending meeting invitation email to participant: {} in meeting: {}",
+                user.getName(),
+                meeting.getTitle());
+
+            Thread.sleep(100);
+
+            log.info("Email content: You have been invited to '{}' by {}. ",
+                meeting.getTitle(), meeting.getOrganizer().getName());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            record(sample, "invitation", "failure");
+            throw new CompletionException("Failed to send meeting invitation email", e);
+        } catch (Exception e) {
+            record(sample, "invitation", "failure");
+            log.error("Error sending meeting invitation email", e);
+            throw new CompletionException("Failed to send meeting invitation email", e);
+        }
+        record(sample, "invitation", "success");
+        return CompletableFuture.completedFuture(null);
     }
 
     @Override
     @Async
     public CompletableFuture<Void> sendMeetingAcceptance(User user, Meeting meeting) {
-        return CompletableFuture.runAsync(() -> {
-            try {
-                log.info("Sending meeting acceptance notification to {} for meeting: {}",
-                    meeting.getOrganizer().getEmail(), meeting.getTitle());
-
-                Thread.sleep(100);
-
-                log.info("Email content: {} has accepted the invitation to '{}'",
-                    user.getName(), meeting.getTitle());
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                throw new CompletionException("Failed to send meeting acceptance email", e);
-            } catch (Exception e) {
-                log.error("Error sending meeting acceptance email", e);
-                throw new CompletionException("Failed to send meeting acceptance email", e);
-            }
-        });
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            log.info("Sending meeting acceptance notification to {} for meeting: {}",
+                meeting.getOrganizer().getEmail(), meeting.getTitle());
+
+            Thread.sleep(100);
+
+            log.info("Email content: {} has accepted the invitation to '{}'",
+                user.getName(), meeting.getTitle());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            record(sample, "acceptance", "failure");
+            throw new CompletionException("Failed to send meeting acceptance email", e);
+        } catch (Exception e) {
+            record(sample, "acceptance", "failure");
+            log.error("Error sending meeting acceptance email", e);
+            throw new CompletionException("Failed to send meeting acceptance email", e);
+        }
+        record(sample, "acceptance", "success");
+        return CompletableFuture.completedFuture(null);
+    }
+
+    @Override
+    @Async
+    public CompletableFuture<Void> sendMeetingDigest(User user, List<MeetingNotification> notifications) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            log.info("Sending digest of {} meeting updates to {}", notifications.size(), user.getEmail());
+
+            Thread.sleep(100);
+
+            notifications.forEach(notification -> log.info("Email content: {} - '{}'",
+                notification.getType(), notification.getMeeting().getTitle()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            record(sample, "digest", "failure");
+            throw new CompletionException("Failed to send meeting digest email", e);
+        } catch (Exception e) {
+            record(sample, "digest", "failure");
+            log.error("Error sending meeting digest email", e);
+            throw new CompletionException("Failed to send meeting digest email", e);
+        }
+        record(sample, "digest", "success");
+        return CompletableFuture.completedFuture(null);
+    }
+
+    private void record(Timer.Sample sample, String type, String outcome) {
+        sample.stop(meterRegistry.timer("minidoodle.notifications.send", "type", type, "outcome", outcome));
     }
-} 
\ No newline at end of file
+}
\ No newline at end of file
@@ -0,0 +1,74 @@
+package com.minidoodle.service.impl;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.minidoodle.dto.FreeBusyDTO;
+import com.minidoodle.dto.FreeBusyEntry;
+import com.minidoodle.dto.FreeBusyRequestDTO;
+import com.minidoodle.repository.TimeSlotRepository;
+import com.minidoodle.service.FreeBusyService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+import static com.minidoodle.mapper.TimeSlotMapper.toInstant;
+import static com.minidoodle.mapper.TimeSlotMapper.toLocalDateTime;
+
+@Service
+@RequiredArgsConstructor
+public class FreeBusyServiceImpl implements FreeBusyService {
+    private final TimeSlotRepository timeSlotRepository;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    @Transactional(readOnly = true)
+    public void writeFreeBusy(FreeBusyRequestDTO request, OutputStream outputStream) throws IOException {
+        Instant windowStart = toInstant(request.getStartTime());
+        Instant windowEnd = toInstant(request.getEndTime());
+        JsonGenerator generator = objectMapper.createGenerator(outputStream)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.writeStartArray();
+
+        try (Stream<FreeBusyEntry> entries = timeSlotRepository.streamBusyEntriesByUserIds(request.getUserIds(), windowStart, windowEnd)) {
+            Iterator<FreeBusyEntry> iterator = entries.iterator();
+            FreeBusyEntry next = iterator.hasNext() ? iterator.next() : null;
+            for (Long userId : new TreeSet<>(request.getUserIds())) {
+                List<FreeBusyDTO.BusyInterval> busy = new ArrayList<>();
+                Instant busyStart = null;
+                Instant busyEnd = null;
+                while (next != null && next.getUserId().equals(userId)) {
+                    Instant start = next.getStartTime().isBefore(windowStart) ? windowStart : next.getStartTime();
+                    Instant end = next.getEndTime().isAfter(windowEnd) ? windowEnd : next.getEndTime();
+                    if (busyEnd != null && !start.isAfter(busyEnd)) {
+                        busyEnd = end.isAfter(busyEnd) ? end : busyEnd;
+                    } else if (start.isBefore(end)) {
+                        addInterval(busy, busyStart, busyEnd);
+                        busyStart = start;
+                        busyEnd = end;
+                    }
+                    next = iterator.hasNext() ? iterator.next() : null;
+                }
+                addInterval(busy, busyStart, busyEnd);
+                generator.writeObject(new FreeBusyDTO(userId, busy));
+            }
+        }
+
+        generator.writeEndArray();
+        generator.flush();
+    }
+
+    private static void addInterval(List<FreeBusyDTO.BusyInterval> busy, Instant start, Instant end) {
+        if (start != null) {
+            busy.add(new FreeBusyDTO.BusyInterval(toLocalDateTime(start), toLocalDateTime(end)));
+        }
+    }
+}
@@ -1,38 +1,57 @@
 package com.minidoodle.service.impl;
 
+import com.minidoodle.cache.TimeSlotIndex;
+import com.minidoodle.cache.TimeSlotInterval;
 import com.minidoodle.dto.MeetingDTO;
+import com.minidoodle.dto.PageDTO;
+import com.minidoodle.mapper.CursorMapper;
+import com.minidoodle.event.TimeSlotChangedEvent;
 import com.minidoodle.mapper.MeetingMapper;
 import com.minidoodle.model.Meeting;
+import com.minidoodle.model.NotificationType;
 import com.minidoodle.model.TimeSlot;
 import com.minidoodle.model.TimeSlotStatus;
 import com.minidoodle.model.User;
 import com.minidoodle.repository.MeetingRepository;
 import com.minidoodle.repository.TimeSlotRepository;
 import com.minidoodle.repository.UserRepository;
+import com.minidoodle.service.AvailabilityRuleService;
 import com.minidoodle.service.MeetingService;
-import com.minidoodle.service.NotificationService;
+import com.minidoodle.service.NotificationOutboxService;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
-@Slf4j
 @Service
 @RequiredArgsConstructor
+@Timed("minidoodle.meeting.operations")
 public class MeetingServiceImpl implements MeetingService {
 
     private final MeetingRepository meetingRepository;
     private final TimeSlotRepository timeSlotRepository;
     private final UserRepository userRepository;
     private final MeetingMapper meetingMapper;
-    private final NotificationService notificationService;
+    private final NotificationOutboxService notificationOutboxService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AvailabilityRuleService availabilityRuleService;
+    private final TimeSlotIndex timeSlotIndex;
+    private final MeterRegistry meterRegistry;
 
     @Override
     @Transactional
@@ -42,32 +61,90 @@ public class MeetingServiceImpl implements MeetingService {
 
         Set<Long> allParticipantIds = new HashSet<>(meetingDTO.getParticipantIds());
         allParticipantIds.add(meetingDTO.getOrganizerId());
+        meterRegistry.summary("minidoodle.meeting.participants").record(allParticipantIds.size());
 
-        User organizer = userRepository.findById(meetingDTO.getOrganizerId())
+        List<User> participants = userRepository.findAllById(allParticipantIds);
+        User organizer = participants.stream()
+                .filter(user -> user.getId().equals(meetingDTO.getOrganizerId()))
+                .findFirst()
                 .orElseThrow(() -> new EntityNotFoundException("Organizer not found with id: " + meetingDTO.getOrganizerId()));
 
-        List<User> participants = userRepository.findAllById(allParticipantIds);
+        Map<Long, TimeSlotInterval> slotsByUserId = findBookableTimeSlots(allParticipantIds, timeSlot.getStartTime(), timeSlot.getEndTime());
+        Set<Long> unavailableParticipantIds = allParticipantIds.stream()
+                .filter(userId -> !slotsByUserId.containsKey(userId))
+                .collect(Collectors.toSet());
+        Set<User> availableParticipants = participants.stream()
+                .filter(user -> user.equals(organizer) || slotsByUserId.containsKey(user.getId()))
+                .collect(Collectors.toSet());
 
-        Meeting meeting = meetingMapper.toEntity(meetingDTO, organizer, timeSlot, new HashSet<>(participants));
+        Meeting meeting = meetingMapper.toEntity(meetingDTO, organizer, timeSlot, availableParticipants);
         Meeting createdMeeting = meetingRepository.save(meeting);
-        for (Long participantId : allParticipantIds) {
-            bookTimeSlot(participantId, createdMeeting);
+        bookTimeSlots(slotsByUserId, createdMeeting);
+        notificationOutboxService.enqueue(NotificationType.MEETING_INVITATION, createdMeeting.getParticipants(), createdMeeting);
+
+        MeetingDTO result = meetingMapper.toDTO(createdMeeting);
+        result.setUnavailableParticipantIds(unavailableParticipantIds);
+        return result;
+    }
+
+    private Map<Long, TimeSlotInterval> findBookableTimeSlots(Set<Long> userIds, Instant startTime, Instant endTime) {
+        Map<Long, TimeSlotInterval> slotsByUserId = new HashMap<>(
+                timeSlotIndex.findCachedOverlapping(userIds, startTime, endTime, TimeSlotStatus.AVAILABLE));
+        Set<Long> uncachedUserIds = userIds.stream()
+                .filter(userId -> !slotsByUserId.containsKey(userId))
+                .collect(Collectors.toSet());
+        if (!uncachedUserIds.isEmpty()) {
+            for (TimeSlot slot : timeSlotRepository.findTimeSlotsByUserIdsAndTimeRange(
+                    uncachedUserIds, startTime, endTime, TimeSlotStatus.AVAILABLE)) {
+                slotsByUserId.putIfAbsent(slot.getCalendar().getUserId(), TimeSlotInterval.of(slot));
+            }
         }
-        sendNotificationsAsync(createdMeeting);
-        return meetingMapper.toDTO(createdMeeting);
+
+        for (Long userId : userIds) {
+            if (!slotsByUserId.containsKey(userId)) {
+                availabilityRuleService.materializeOverlappingOccurrence(userId, startTime, endTime)
+                        .ifPresent(slot -> slotsByUserId.put(userId, TimeSlotInterval.of(slot)));
+            }
+        }
+        return slotsByUserId;
     }
 
-    private void bookTimeSlot(Long participantId, Meeting meeting) {
-        List<TimeSlot> availableSlots = timeSlotRepository.findAvailableTimeSlotsByUserIdAndTimeRange(
-                participantId,
-                meeting.getTimeSlot().getStartTime(),
-                meeting.getTimeSlot().getEndTime(),
-                TimeSlotStatus.AVAILABLE);
+    private void bookTimeSlots(Map<Long, TimeSlotInterval> slotsByUserId, Meeting meeting) {
+        if (slotsByUserId.isEmpty()) {
+            return;
+        }
 
-        TimeSlot matchingSlot = availableSlots.getFirst();
-        matchingSlot.setMeeting(meeting);
-        matchingSlot.setStatus(TimeSlotStatus.BOOKED);
-        timeSlotRepository.save(matchingSlot);
+        if (!bookAvailableTimeSlots(slotsByUserId.values(), meeting)) {
+            rebookFromRepository(slotsByUserId, meeting);
+        }
+        meterRegistry.counter("minidoodle.bookings", "outcome", "success").increment();
+        slotsByUserId.forEach((userId, slot) -> eventPublisher.publishEvent(TimeSlotChangedEvent.booked(userId, slot)));
+    }
+
+    private boolean bookAvailableTimeSlots(Collection<TimeSlotInterval> slots, Meeting meeting) {
+        Set<Long> slotIds = slots.stream().map(TimeSlotInterval::getId).collect(Collectors.toSet());
+        return slotIds.isEmpty() ||
+                timeSlotRepository.bookAvailableTimeSlots(slotIds, TimeSlotStatus.BOOKED, meeting, Instant.now()) == slotIds.size();
+    }
+
+    private void rebookFromRepository(Map<Long, TimeSlotInterval> slotsByUserId, Meeting meeting) {
+        slotsByUserId.keySet().forEach(timeSlotIndex::evict);
+        Set<Long> pendingUserIds = new HashSet<>(slotsByUserId.keySet());
+        timeSlotRepository.findBookedTimeSlotsByMeetingIdAndUserIds(meeting.getId(), slotsByUserId.keySet())
+                .forEach(slot -> pendingUserIds.remove(slot.getCalendar().getUserId()));
+
+        Map<Long, TimeSlotInterval> retriedSlotsByUserId = new HashMap<>();
+        if (!pendingUserIds.isEmpty()) {
+            for (TimeSlot slot : timeSlotRepository.findTimeSlotsByUserIdsAndTimeRange(pendingUserIds,
+                    meeting.getTimeSlot().getStartTime(), meeting.getTimeSlot().getEndTime(), TimeSlotStatus.AVAILABLE)) {
+                retriedSlotsByUserId.putIfAbsent(slot.getCalendar().getUserId(), TimeSlotInterval.of(slot));
+            }
+        }
+        if (retriedSlotsByUserId.size() != pendingUserIds.size() || !bookAvailableTimeSlots(retriedSlotsByUserId.values(), meeting)) {
+            meterRegistry.counter("minidoodle.bookings", "outcome", "conflict").increment();
+            throw new IllegalStateException("Time slots for meeting " + meeting.getId() + " were booked concurrently");
+        }
+        slotsByUserId.putAll(retriedSlotsByUserId);
     }
 
     @Override
@@ -79,25 +156,20 @@ public class MeetingServiceImpl implements MeetingService {
                 timeSlotRepository.findById(meetingDTO.getTimeSlotId())
                 .orElseThrow(() ->  new EntityNotFoundException("TimeSlot not found with id: " + id)) : null;
 
+        TimeSlot previousTimeSlot = meeting.getTimeSlot();
         meetingMapper.updateEntity(meeting, meetingDTO, timeSlot);
         Meeting updatedMeeting = meetingRepository.save(meeting);
-
-        sendNotificationsAsync(updatedMeeting);
+        eventPublisher.publishEvent(TimeSlotChangedEvent.saved(updatedMeeting.getTimeSlot()));
+        if (timeSlot != null) {
+            eventPublisher.publishEvent(TimeSlotChangedEvent.saved(previousTimeSlot));
+            notificationOutboxService.enqueue(NotificationType.MEETING_RESCHEDULED, updatedMeeting.getParticipants().stream()
+                    .filter(participant -> !participant.equals(updatedMeeting.getOrganizer()))
+                    .toList(), updatedMeeting);
+        }
 
         return meetingMapper.toDTO(updatedMeeting);
     }
 
-    private void sendNotificationsAsync(Meeting meeting) {
-        CompletableFuture.runAsync(() ->
-            meeting.getParticipants().forEach(participant -> {
-            try {
-                notificationService.sendMeetingInvitation(participant, meeting).join();
-            } catch (Exception e) {
-                log.error("Failed to send meeting invitation notification", e);
-            }
-        }));
-    }
-
 
     @Override
     @Transactional
@@ -105,30 +177,44 @@ public class MeetingServiceImpl implements MeetingService {
         Meeting meeting = meetingRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Meeting not found with id: " + id));
 
-        meeting.getParticipants().forEach(p -> freeMeetingTimeSlot(meeting.getId(), p));
+        freeMeetingTimeSlots(meeting, meeting.getParticipants());
 
         meetingRepository.deleteById(id);
+        eventPublisher.publishEvent(TimeSlotChangedEvent.saved(meeting.getTimeSlot()));
     }
 
     @Override
+    @Transactional(readOnly = true)
     public MeetingDTO getMeetingById(Long id) {
-        return meetingRepository.findById(id)
+        return meetingRepository.findWithParticipantsById(id)
                 .map(meetingMapper::toDTO)
                 .orElseThrow(() -> new EntityNotFoundException("Meeting not found with id: " + id));
     }
 
     @Override
-    public List<MeetingDTO> getMeetingsByOrganizerId(Long organizerId) {
-        return meetingRepository.findByOrganizerId(organizerId).stream()
-                .map(meetingMapper::toDTO)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public String getMeetingVersion(Long id) {
+        return meetingRepository.findUpdatedAtById(id)
+                .map(updatedAt -> Long.toString(ChronoUnit.MICROS.between(Instant.EPOCH, updatedAt)))
+                .orElseThrow(() -> new EntityNotFoundException("Meeting not found with id: " + id));
     }
 
     @Override
-    public List<MeetingDTO> getMeetingsByParticipantId(Long participantId) {
-        return meetingRepository.findByParticipantId(participantId).stream()
-                .map(meetingMapper::toDTO)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public PageDTO<MeetingDTO> getMeetingsByOrganizerId(Long organizerId, String cursor, Integer limit) {
+        int pageSize = CursorMapper.pageSize(limit);
+        return CursorMapper.toPage(
+                meetingRepository.findByOrganizerIdAndIdGreaterThanOrderByIdAsc(organizerId, CursorMapper.decodeId(cursor), Limit.of(pageSize + 1)),
+                pageSize, meetingMapper::toDTO, meeting -> CursorMapper.encodeId(meeting.getId()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PageDTO<MeetingDTO> getMeetingsByParticipantId(Long participantId, String cursor, Integer limit) {
+        int pageSize = CursorMapper.pageSize(limit);
+        return CursorMapper.toPage(
+                meetingRepository.findByParticipantIdAndIdGreaterThan(participantId, CursorMapper.decodeId(cursor), Limit.of(pageSize + 1)),
+                pageSize, meetingMapper::toDTO, meeting -> CursorMapper.encodeId(meeting.getId()));
     }
 
     @Override
@@ -139,8 +225,15 @@ public class MeetingServiceImpl implements MeetingService {
         User participant = userRepository.findById(participantId)
                 .orElseThrow(() -> new EntityNotFoundException("User not found with id: " + participantId));
 
+        Map<Long, TimeSlotInterval> slotsByUserId = findBookableTimeSlots(Set.of(participantId),
+                meeting.getTimeSlot().getStartTime(), meeting.getTimeSlot().getEndTime());
+        if (slotsByUserId.isEmpty()) {
+            throw new IllegalStateException("No available time slot for participant " + participantId);
+        }
         meeting.getParticipants().add(participant);
-        bookTimeSlot(participantId, meeting);
+        meeting.setUpdatedAt(Instant.now());
+        bookTimeSlots(slotsByUserId, meeting);
+        notificationOutboxService.enqueue(NotificationType.MEETING_INVITATION, List.of(participant), meeting);
 
         Meeting updatedMeeting = meetingRepository.save(meeting);
         return meetingMapper.toDTO(updatedMeeting);
@@ -155,16 +248,29 @@ public class MeetingServiceImpl implements MeetingService {
                 .orElseThrow(() -> new EntityNotFoundException("User not found with id: " + userId));
 
         meeting.getParticipants().remove(user);
-        freeMeetingTimeSlot(meetingId, user);
+        meeting.setUpdatedAt(Instant.now());
+        freeMeetingTimeSlots(meeting, List.of(user));
+        notificationOutboxService.enqueue(NotificationType.MEETING_CANCELLATION, List.of(user), meeting);
 
         Meeting updatedMeeting = meetingRepository.save(meeting);
         return meetingMapper.toDTO(updatedMeeting);
     }
 
-    private static void freeMeetingTimeSlot(Long meetingId, User user) {
-        user.getCalendar().getTimeSlots().stream()
-                .filter(ts -> ts.getMeeting().getId().equals(meetingId)).findFirst()
-                .ifPresent(slot -> slot.setStatus(TimeSlotStatus.AVAILABLE));
+    private void freeMeetingTimeSlots(Meeting meeting, Collection<User> users) {
+        findMeetingTimeSlots(meeting, users).values().forEach(slot -> {
+            slot.setStatus(TimeSlotStatus.AVAILABLE);
+            slot.setBookedMeeting(null);
+            eventPublisher.publishEvent(TimeSlotChangedEvent.saved(slot));
+        });
+    }
+
+    private Map<Long, TimeSlot> findMeetingTimeSlots(Meeting meeting, Collection<User> users) {
+        Set<Long> userIds = users.stream().map(User::getId).collect(Collectors.toSet());
+        Map<Long, TimeSlot> slotsByUserId = new HashMap<>();
+        for (TimeSlot slot : timeSlotRepository.findBookedTimeSlotsByMeetingIdAndUserIds(meeting.getId(), userIds)) {
+            slotsByUserId.putIfAbsent(slot.getCalendar().getUserId(), slot);
+        }
+        return slotsByUserId;
     }
 
     @Override
@@ -178,21 +284,14 @@ public class MeetingServiceImpl implements MeetingService {
             throw new IllegalStateException("User " + participantId + " is not a participant in meeting " + meetingId);
         }
 
-        TimeSlot matchingSlot = participant.getCalendar().getTimeSlots().stream()
-                .filter(ts -> ts.getMeeting().getId().equals(meetingId)).findFirst()
+        TimeSlot matchingSlot = Optional.ofNullable(findMeetingTimeSlots(meeting, List.of(participant)).get(participantId))
                 .orElseThrow(() -> new IllegalStateException("TimeSlot not found for participant " + participantId + " with the meeting " + meetingId));
 
         matchingSlot.setStatus(TimeSlotStatus.BUSY);
-        matchingSlot.setMeeting(meeting);
         timeSlotRepository.save(matchingSlot);
+        eventPublisher.publishEvent(TimeSlotChangedEvent.saved(matchingSlot));
 
-        CompletableFuture.runAsync(() -> {
-            try {
-                notificationService.sendMeetingAcceptance(participant, meeting).join();
-            } catch (Exception e) {
-                log.error("Failed to send meeting acceptance notification", e);
-            }
-        });
+        notificationOutboxService.enqueue(NotificationType.MEETING_ACCEPTANCE, List.of(participant), meeting);
 
         return meetingMapper.toDTO(meeting);
     }
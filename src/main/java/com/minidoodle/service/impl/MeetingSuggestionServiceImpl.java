@@ -0,0 +1,111 @@
+package com.minidoodle.service.impl;
+
+import com.minidoodle.cache.FreeBusyStore;
+import com.minidoodle.dto.MeetingSuggestionDTO;
+import com.minidoodle.dto.MeetingSuggestionRequestDTO;
+import com.minidoodle.exception.TimeSlotException;
+import com.minidoodle.model.TimeSlot;
+import com.minidoodle.model.TimeSlotStatus;
+import com.minidoodle.repository.TimeSlotRepository;
+import com.minidoodle.service.MeetingSuggestionService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeSet;
+
+import static com.minidoodle.mapper.TimeSlotMapper.toInstant;
+import static com.minidoodle.mapper.TimeSlotMapper.toLocalDateTime;
+
+@Service
+@RequiredArgsConstructor
+public class MeetingSuggestionServiceImpl implements MeetingSuggestionService {
+    private static final int DEFAULT_LIMIT = 10;
+
+    private final TimeSlotRepository timeSlotRepository;
+    private final FreeBusyStore freeBusyStore;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<MeetingSuggestionDTO> suggestMeetingTimes(MeetingSuggestionRequestDTO request) {
+        Instant windowStart = toInstant(request.getStartTime());
+        Instant windowEnd = toInstant(request.getEndTime());
+        Duration duration = Duration.ofMinutes(request.getDurationMinutes());
+
+        if (!windowStart.isBefore(windowEnd) || windowStart.plus(duration).isAfter(windowEnd)) {
+            throw new TimeSlotException("search window must be longer than the requested duration");
+        }
+
+        TimeSlot window = new TimeSlot();
+        window.setStartTime(windowStart);
+        window.setEndTime(windowEnd);
+
+        List<TimeSlot> slots = timeSlotRepository.findTimeSlotsByUserIdsAndTimeRange(
+                        request.getUserIds(), windowStart, windowEnd, TimeSlotStatus.AVAILABLE).stream()
+                .filter(slot -> slot.overlaps(window))
+                .filter(slot -> freeBusyStore.isFree(userIdOf(slot), slot.getStartTime(), slot.getEndTime()))
+                .sorted(Comparator.comparing(TimeSlot::getStartTime))
+                .toList();
+
+        List<MeetingSuggestionDTO> suggestions = sweep(slots, windowStart, windowEnd, duration, request.getUserIds().size());
+        suggestions.sort(Comparator.comparingInt(MeetingSuggestionDTO::getAvailableCount).reversed()
+                .thenComparing(MeetingSuggestionDTO::getStartTime));
+
+        int limit = request.getLimit() != null ? request.getLimit() : DEFAULT_LIMIT;
+        return suggestions.size() > limit ? new ArrayList<>(suggestions.subList(0, limit)) : suggestions;
+    }
+
+    private List<MeetingSuggestionDTO> sweep(List<TimeSlot> slots, Instant windowStart, Instant windowEnd,
+                                             Duration duration, int participantCount) {
+        TreeSet<Instant> candidates = new TreeSet<>();
+        for (TimeSlot slot : slots) {
+            Instant candidate = slot.getStartTime().isBefore(windowStart) ? windowStart : slot.getStartTime();
+            if (!candidate.plus(duration).isAfter(windowEnd)) {
+                candidates.add(candidate);
+            }
+        }
+
+        PriorityQueue<TimeSlot> active = new PriorityQueue<>(Comparator.comparing(TimeSlot::getEndTime));
+        Map<Long, Integer> activeSlotsPerUser = new HashMap<>();
+        List<MeetingSuggestionDTO> suggestions = new ArrayList<>();
+        int next = 0;
+
+        for (Instant candidateStart : candidates) {
+            Instant candidateEnd = candidateStart.plus(duration);
+
+            while (next < slots.size() && !slots.get(next).getStartTime().isAfter(candidateStart)) {
+                TimeSlot slot = slots.get(next++);
+                if (slot.contains(candidateEnd)) {
+                    active.add(slot);
+                    activeSlotsPerUser.merge(userIdOf(slot), 1, Integer::sum);
+                }
+            }
+            while (!active.isEmpty() && !active.peek().contains(candidateEnd)) {
+                activeSlotsPerUser.computeIfPresent(userIdOf(active.poll()), (userId, count) -> count > 1 ? count - 1 : null);
+            }
+
+            if (!activeSlotsPerUser.isEmpty()) {
+                MeetingSuggestionDTO suggestion = new MeetingSuggestionDTO();
+                suggestion.setStartTime(toLocalDateTime(candidateStart));
+                suggestion.setEndTime(toLocalDateTime(candidateEnd));
+                suggestion.setAvailableCount(activeSlotsPerUser.size());
+                suggestion.setParticipantCount(participantCount);
+                suggestion.setAvailableUserIds(new TreeSet<>(activeSlotsPerUser.keySet()));
+                suggestions.add(suggestion);
+            }
+        }
+        return suggestions;
+    }
+
+    private static Long userIdOf(TimeSlot slot) {
+        return slot.getCalendar().getUserId();
+    }
+}
@@ -0,0 +1,26 @@
+package com.minidoodle.service.impl;
+
+import com.minidoodle.service.NotificationOutboxService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "minidoodle.outbox.dispatcher.enabled", havingValue = "true", matchIfMissing = true)
+public class NotificationOutboxDispatcher {
+    private final NotificationOutboxService notificationOutboxService;
+
+    @Value("${minidoodle.outbox.batch-size:50}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${minidoodle.outbox.poll-interval-ms:1000}")
+    public void dispatch() {
+        int dispatched;
+        do {
+            dispatched = notificationOutboxService.dispatchPending();
+        } while (dispatched == batchSize);
+    }
+}
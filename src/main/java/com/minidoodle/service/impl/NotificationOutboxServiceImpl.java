@@ -0,0 +1,165 @@
+package com.minidoodle.service.impl;
+
+import com.minidoodle.dto.MeetingNotification;
+import com.minidoodle.model.Meeting;
+import com.minidoodle.model.NotificationOutboxEntry;
+import com.minidoodle.model.NotificationType;
+import com.minidoodle.model.User;
+import com.minidoodle.repository.MeetingRepository;
+import com.minidoodle.repository.NotificationOutboxRepository;
+import com.minidoodle.repository.UserRepository;
+import com.minidoodle.service.NotificationOutboxService;
+import com.minidoodle.service.NotificationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationOutboxServiceImpl implements NotificationOutboxService {
+    private final NotificationOutboxRepository notificationOutboxRepository;
+    private final MeetingRepository meetingRepository;
+    private final UserRepository userRepository;
+    private final NotificationService notificationService;
+
+    @Value("${minidoodle.outbox.batch-size:50}")
+    private int batchSize;
+
+    @Value("${minidoodle.outbox.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${minidoodle.outbox.retry-delay:30s}")
+    private Duration retryDelay;
+
+    @Value("${minidoodle.notifications.coalescing-window:30s}")
+    private Duration coalescingWindow;
+
+    @Override
+    @Transactional
+    public void enqueue(NotificationType type, Collection<User> recipients, Meeting meeting) {
+        Instant availableAt = type == NotificationType.MEETING_ACCEPTANCE ? Instant.now() : Instant.now().plus(coalescingWindow);
+        notificationOutboxRepository.saveAll(recipients.stream()
+                .map(recipient -> new NotificationOutboxEntry(type, recipient.getId(), meeting.getId(), availableAt))
+                .toList());
+    }
+
+    @Override
+    @Transactional
+    public int dispatchPending() {
+        Instant now = Instant.now();
+        List<NotificationOutboxEntry> batch = notificationOutboxRepository.claimBatch(now, batchSize);
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, Meeting> meetingsById = meetingRepository.findWithOrganizerByIdIn(
+                        batch.stream().map(NotificationOutboxEntry::getMeetingId).collect(Collectors.toSet())).stream()
+                .collect(Collectors.toMap(Meeting::getId, Function.identity()));
+        Map<Long, User> recipientsById = userRepository.findAllById(
+                        batch.stream().map(NotificationOutboxEntry::getRecipientId).collect(Collectors.toSet())).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        List<Delivery> deliveries = new ArrayList<>();
+        Map<Long, List<NotificationOutboxEntry>> entriesByRecipient = batch.stream()
+                .collect(Collectors.groupingBy(NotificationOutboxEntry::getRecipientId, LinkedHashMap::new, Collectors.toList()));
+        entriesByRecipient.forEach((recipientId, entries) ->
+                deliveries.addAll(coalesce(recipientsById.get(recipientId), entries, meetingsById)));
+
+        List<NotificationOutboxEntry> finished = new ArrayList<>(batch.size());
+        for (Delivery delivery : deliveries) {
+            try {
+                delivery.future().join();
+                finished.addAll(delivery.entries());
+            } catch (RuntimeException e) {
+                for (NotificationOutboxEntry entry : delivery.entries()) {
+                    entry.setAttempts(entry.getAttempts() + 1);
+                    if (entry.getAttempts() >= maxAttempts) {
+                        log.error("Giving up on {} notification {} after {} attempts", entry.getType(), entry.getId(), entry.getAttempts(), e);
+                        finished.add(entry);
+                    } else {
+                        log.warn("Failed to send {} notification {}, retrying in {}", entry.getType(), entry.getId(), retryDelay.multipliedBy(entry.getAttempts()), e);
+                        entry.setAvailableAt(now.plus(retryDelay.multipliedBy(entry.getAttempts())));
+                    }
+                }
+            }
+        }
+        notificationOutboxRepository.deleteAllInBatch(finished);
+        return batch.size();
+    }
+
+    private List<Delivery> coalesce(User recipient, List<NotificationOutboxEntry> entries, Map<Long, Meeting> meetingsById) {
+        List<Delivery> deliveries = new ArrayList<>();
+        List<NotificationOutboxEntry> dropped = new ArrayList<>();
+        List<NotificationOutboxEntry> digestEntries = new ArrayList<>();
+        Map<Long, List<NotificationOutboxEntry>> digestEntriesByMeetingId = new LinkedHashMap<>();
+
+        for (NotificationOutboxEntry entry : entries) {
+            Meeting meeting = meetingsById.get(entry.getMeetingId());
+            if (recipient == null || meeting == null) {
+                dropped.add(entry);
+            } else if (entry.getType() == NotificationType.MEETING_ACCEPTANCE) {
+                deliveries.add(new Delivery(List.of(entry), send(() -> notificationService.sendMeetingAcceptance(recipient, meeting))));
+            } else {
+                digestEntries.add(entry);
+                digestEntriesByMeetingId.computeIfAbsent(entry.getMeetingId(), id -> new ArrayList<>()).add(entry);
+            }
+        }
+
+        if (!dropped.isEmpty()) {
+            log.info("Dropping {} notifications: recipient or meeting no longer exists", dropped.size());
+            deliveries.add(new Delivery(dropped, CompletableFuture.completedFuture(null)));
+        }
+        List<MeetingNotification> notifications = new ArrayList<>();
+        digestEntriesByMeetingId.forEach((meetingId, meetingEntries) -> netChange(meetingEntries)
+                .ifPresent(type -> notifications.add(new MeetingNotification(type, meetingsById.get(meetingId)))));
+        if (notifications.isEmpty()) {
+            if (!digestEntries.isEmpty()) {
+                deliveries.add(new Delivery(digestEntries, CompletableFuture.completedFuture(null)));
+            }
+        } else {
+            MeetingNotification single = notifications.getFirst();
+            CompletableFuture<Void> future = notifications.size() == 1 && single.getType() == NotificationType.MEETING_INVITATION
+                    ? send(() -> notificationService.sendMeetingInvitation(recipient, single.getMeeting()))
+                    : send(() -> notificationService.sendMeetingDigest(recipient, notifications));
+            deliveries.add(new Delivery(digestEntries, future));
+        }
+        return deliveries;
+    }
+
+    private static Optional<NotificationType> netChange(List<NotificationOutboxEntry> meetingEntries) {
+        NotificationType first = meetingEntries.getFirst().getType();
+        NotificationType last = meetingEntries.getLast().getType();
+        if (last == NotificationType.MEETING_CANCELLATION) {
+            return first == NotificationType.MEETING_INVITATION ? Optional.empty() : Optional.of(last);
+        }
+        boolean invited = meetingEntries.stream().anyMatch(entry -> entry.getType() == NotificationType.MEETING_INVITATION);
+        return Optional.of(invited ? NotificationType.MEETING_INVITATION : NotificationType.MEETING_RESCHEDULED);
+    }
+
+    private static CompletableFuture<Void> send(Supplier<CompletableFuture<Void>> sender) {
+        try {
+            return sender.get();
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private record Delivery(List<NotificationOutboxEntry> entries, CompletableFuture<Void> future) {
+    }
+}
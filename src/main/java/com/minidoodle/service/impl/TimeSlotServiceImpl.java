@@ -1,31 +1,56 @@
 package com.minidoodle.service.impl;
 
+import com.minidoodle.cache.AvailabilityCache;
+import com.minidoodle.dto.PageDTO;
 import com.minidoodle.dto.TimeSlotDTO;
+import com.minidoodle.event.TimeSlotChangedEvent;
 import com.minidoodle.exception.TimeSlotException;
+import com.minidoodle.mapper.CursorMapper;
 import com.minidoodle.mapper.TimeSlotMapper;
 import com.minidoodle.model.TimeSlot;
 import com.minidoodle.model.TimeSlotStatus;
 import com.minidoodle.model.User;
+import com.minidoodle.repository.CalendarRepository;
 import com.minidoodle.repository.TimeSlotRepository;
 import com.minidoodle.repository.UserRepository;
+import com.minidoodle.service.AvailabilityRuleService;
 import com.minidoodle.service.TimeSlotService;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static com.minidoodle.mapper.TimeSlotMapper.toInstant;
 
 @Service
 @RequiredArgsConstructor
+@Timed("minidoodle.timeslot.operations")
 public class TimeSlotServiceImpl implements TimeSlotService {
     private final TimeSlotRepository timeSlotRepository;
     private final UserRepository userRepository;
+    private final CalendarRepository calendarRepository;
     private final TimeSlotMapper timeSlotMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AvailabilityRuleService availabilityRuleService;
+    private final AvailabilityCache availabilityCache;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${minidoodle.availability.horizon-days:28}")
+    private int horizonDays;
 
     @Override
     @Transactional
@@ -39,6 +64,7 @@ public class TimeSlotServiceImpl implements TimeSlotService {
             throw new TimeSlotException("time slot start and endtime are not valid");
         }
         TimeSlot createdTimeSlot = timeSlotRepository.save(timeSlot);
+        eventPublisher.publishEvent(TimeSlotChangedEvent.saved(createdTimeSlot));
         return timeSlotMapper.toDTO(createdTimeSlot);
     }
 
@@ -53,48 +79,84 @@ public class TimeSlotServiceImpl implements TimeSlotService {
             throw new TimeSlotException("time slot start and endtime are not valid");
         }
         TimeSlot updatedTimeSlot = timeSlotRepository.save(timeSlot);
+        eventPublisher.publishEvent(TimeSlotChangedEvent.saved(updatedTimeSlot));
         return timeSlotMapper.toDTO(updatedTimeSlot);
     }
 
     @Override
     @Transactional
     public void deleteTimeSlot(Long id) {
-        if (!timeSlotRepository.existsById(id)) {
-            throw new EntityNotFoundException("TimeSlot not found with id: " + id);
-        }
-        timeSlotRepository.deleteById(id);
+        TimeSlot timeSlot = timeSlotRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("TimeSlot not found with id: " + id));
+        timeSlotRepository.delete(timeSlot);
+        eventPublisher.publishEvent(TimeSlotChangedEvent.deleted(timeSlot));
     }
 
     @Override
+    @Transactional(readOnly = true)
     public TimeSlotDTO getTimeSlotById(Long id) {
-        return timeSlotRepository.findById(id)
-                .map(timeSlotMapper::toDTO)
+        return timeSlotRepository.findDTOById(id)
                 .orElseThrow(() -> new EntityNotFoundException("TimeSlot not found with id: " + id));
 
     }
 
     @Override
-    public List<TimeSlotDTO> getTimeSlotsByUserId(Long userId) {
-        return timeSlotRepository.findByCalendarId(userId).stream()
-                .map(timeSlotMapper::toDTO)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public String getCalendarVersion(Long userId) {
+        return calendarRepository.findUpdatedAtByUserId(userId)
+                .map(updatedAt -> Long.toString(ChronoUnit.MICROS.between(Instant.EPOCH, updatedAt)))
+                .orElseThrow(() -> new EntityNotFoundException("User not found with id: " + userId));
     }
 
     @Override
-    public List<TimeSlotDTO> getAvailableTimeSlots(Long userId) {
-        Long calendarId = userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException("User not found with id: " + userId)).getCalendar().getId();
-        return timeSlotRepository.findAvailableTimeSlots(calendarId).stream()
-                .map(timeSlotMapper::toDTO)
-                .collect(Collectors.toList());
+    @Transactional
+    public String getAvailableTimeSlotsVersion(Long userId) {
+        return getCalendarVersion(userId) + "-" + availabilityWindowStart().toEpochSecond(ZoneOffset.UTC) / 60;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PageDTO<TimeSlotDTO> getTimeSlotsByUserId(Long userId, String cursor, Integer limit) {
+        int pageSize = CursorMapper.pageSize(limit);
+        CursorMapper.TimeCursor after = CursorMapper.decodeTime(cursor);
+        List<TimeSlot> rows = after == null
+                ? timeSlotRepository.findPageByUserId(userId, Limit.of(pageSize + 1))
+                : timeSlotRepository.findPageByUserIdAfter(userId, after.getStartTime(), after.getId(), Limit.of(pageSize + 1));
+        return CursorMapper.toPage(rows, pageSize, timeSlotMapper::toDTO,
+                timeSlot -> CursorMapper.encodeTime(timeSlot.getStartTime(), timeSlot.getId()));
     }
 
     @Override
+    @Transactional
+    public List<TimeSlotDTO> getAvailableTimeSlots(Long userId, String version) {
+        Long calendarId = resolveCalendarId(userId);
+        LocalDateTime startTime = availabilityWindowStart();
+        LocalDateTime endTime = startTime.plusDays(horizonDays);
+        return availabilityCache.get(calendarId, version, startTime, endTime, () -> merge("available", timeSlotRepository.findAvailableTimeSlots(calendarId),
+                availabilityRuleService.expandAvailability(userId, calendarId, startTime, endTime)));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public List<TimeSlotDTO> getTimeSlotsInRange(Long userId, LocalDateTime startTime, LocalDateTime endTime) {
-        Long calendarId = userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException("User not found with id: " + userId)).getCalendar().getId();
-        return timeSlotRepository.findAvailableSlotsInTimeRange(calendarId, toInstant(startTime), toInstant(endTime)).stream()
-                .map(timeSlotMapper::toDTO)
+        Long calendarId = resolveCalendarId(userId);
+        return merge("range", timeSlotRepository.findAvailableSlotsInTimeRange(calendarId, toInstant(startTime), toInstant(endTime)),
+                availabilityRuleService.expandAvailability(userId, calendarId, startTime, endTime));
+    }
+
+    private static LocalDateTime availabilityWindowStart() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES);
+    }
+
+    private Long resolveCalendarId(Long userId) {
+        return calendarRepository.findIdByUserId(userId)
+                .orElseThrow(() -> new EntityNotFoundException("User not found with id: " + userId));
+    }
+
+    private List<TimeSlotDTO> merge(String query, List<TimeSlotDTO> storedSlots, List<TimeSlotDTO> ruleOccurrences) {
+        meterRegistry.summary("minidoodle.availability.slots", "query", query).record(storedSlots.size() + ruleOccurrences.size());
+        return Stream.concat(storedSlots.stream(), ruleOccurrences.stream())
+                .sorted(Comparator.comparing(TimeSlotDTO::getStartTime))
                 .collect(Collectors.toList());
     }
 
@@ -105,6 +167,7 @@ public class TimeSlotServiceImpl implements TimeSlotService {
                 .orElseThrow(() -> new EntityNotFoundException("TimeSlot not found with id: " + id));
         timeSlot.setStatus(TimeSlotStatus.BUSY);
         TimeSlot updatedTimeSlot = timeSlotRepository.save(timeSlot);
+        eventPublisher.publishEvent(TimeSlotChangedEvent.saved(updatedTimeSlot));
         return timeSlotMapper.toDTO(updatedTimeSlot);
     }
 
@@ -115,6 +178,7 @@ public class TimeSlotServiceImpl implements TimeSlotService {
                 .orElseThrow(() -> new EntityNotFoundException("TimeSlot not found with id: " + id));
         timeSlot.setStatus(TimeSlotStatus.AVAILABLE);
         TimeSlot updatedTimeSlot = timeSlotRepository.save(timeSlot);
+        eventPublisher.publishEvent(TimeSlotChangedEvent.saved(updatedTimeSlot));
         return timeSlotMapper.toDTO(updatedTimeSlot);
     }
 
@@ -125,6 +189,7 @@ public class TimeSlotServiceImpl implements TimeSlotService {
                 .orElseThrow(() -> new EntityNotFoundException("TimeSlot not found with id: " + id));
         timeSlot.setStatus(TimeSlotStatus.BOOKED);
         TimeSlot updatedTimeSlot = timeSlotRepository.save(timeSlot);
+        eventPublisher.publishEvent(TimeSlotChangedEvent.saved(updatedTimeSlot));
         return timeSlotMapper.toDTO(updatedTimeSlot);
     }
 } 
\ No newline at end of file
@@ -1,18 +1,19 @@
 package com.minidoodle.service.impl;
 
+import com.minidoodle.dto.PageDTO;
 import com.minidoodle.dto.UserDTO;
+import com.minidoodle.mapper.CursorMapper;
 import com.minidoodle.mapper.UserMapper;
 import com.minidoodle.model.User;
 import com.minidoodle.repository.UserRepository;
 import com.minidoodle.service.UserService;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -28,22 +29,26 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<UserDTO> getUserById(Long id) {
         return userRepository.findById(id)
                 .map(userMapper::toDTO);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<UserDTO> getUserByEmail(String email) {
         return userRepository.findByEmail(email)
                 .map(userMapper::toDTO);
     }
 
     @Override
-    public List<UserDTO> getAllUsers() {
-        return userRepository.findAll().stream()
-                .map(userMapper::toDTO)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public PageDTO<UserDTO> getAllUsers(String cursor, Integer limit) {
+        int pageSize = CursorMapper.pageSize(limit);
+        return CursorMapper.toPage(
+                userRepository.findByIdGreaterThanOrderByIdAsc(CursorMapper.decodeId(cursor), Limit.of(pageSize + 1)),
+                pageSize, userMapper::toDTO, user -> CursorMapper.encodeId(user.getId()));
     }
 
     @Override
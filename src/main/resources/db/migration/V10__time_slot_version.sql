@@ -0,0 +1 @@
+ALTER TABLE time_slots ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,22 @@
+ALTER TABLE time_slots ADD COLUMN booked_meeting_id BIGINT REFERENCES meetings(id) ON DELETE SET NULL;
+
+UPDATE time_slots ts SET booked_meeting_id = m.id
+FROM meetings m
+WHERE m.time_slot_id = ts.id AND ts.status <> 'AVAILABLE';
+
+UPDATE time_slots ts SET booked_meeting_id = owner.meeting_id
+FROM (
+    SELECT ps.id AS time_slot_id, min(m.id) AS meeting_id
+    FROM time_slots ps
+    JOIN meeting_participants mp ON mp.user_id = ps.calendar_id
+    JOIN meetings m ON m.id = mp.meeting_id
+    JOIN time_slots ms ON ms.id = m.time_slot_id
+    WHERE ps.status <> 'AVAILABLE'
+      AND ps.booked_meeting_id IS NULL
+      AND ps.time_range && ms.time_range
+    GROUP BY ps.id
+    HAVING count(*) = 1
+) owner
+WHERE ts.id = owner.time_slot_id;
+
+CREATE INDEX idx_time_slots_booked_meeting_id_calendar_id ON time_slots(booked_meeting_id, calendar_id);
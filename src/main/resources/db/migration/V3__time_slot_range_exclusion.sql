@@ -0,0 +1,24 @@
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+ALTER TABLE time_slots
+    ADD COLUMN time_range TSRANGE GENERATED ALWAYS AS (tsrange(start_time, end_time, '[)')) STORED;
+
+DO $$
+DECLARE
+    overlapping_pairs BIGINT;
+    conflicts TEXT;
+BEGIN
+    SELECT count(*), string_agg(format('(%s, %s)', a.id, b.id), ', ' ORDER BY a.id, b.id)
+    INTO overlapping_pairs, conflicts
+    FROM time_slots a
+    JOIN time_slots b ON b.calendar_id = a.calendar_id AND b.id > a.id AND b.time_range && a.time_range;
+    IF overlapping_pairs > 0 THEN
+        RAISE EXCEPTION '% pairs of time slots in the same calendar overlap: %. Merge or delete them, then rerun the migration.', overlapping_pairs, left(conflicts, 4000);
+    END IF;
+END $$;
+
+ALTER TABLE time_slots
+    ADD CONSTRAINT excl_time_slots_calendar_overlap
+    EXCLUDE USING gist (calendar_id WITH =, time_range WITH &&);
+
+DROP INDEX IF EXISTS idx_time_slots_calendar_time_range;
@@ -0,0 +1,20 @@
+CREATE TABLE availability_rules (
+    id BIGSERIAL PRIMARY KEY,
+    calendar_id BIGINT NOT NULL REFERENCES calendars(id),
+    days_of_week VARCHAR(100) NOT NULL,
+    start_time_of_day TIME NOT NULL,
+    duration_minutes INTEGER NOT NULL CHECK (duration_minutes > 0 AND duration_minutes < 1440),
+    starts_on DATE NOT NULL,
+    until_date DATE,
+    occurrence_count INTEGER CHECK (occurrence_count > 0),
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL
+);
+
+CREATE TABLE availability_rule_exceptions (
+    rule_id BIGINT NOT NULL REFERENCES availability_rules(id),
+    exception_date DATE NOT NULL,
+    PRIMARY KEY (rule_id, exception_date)
+);
+
+CREATE INDEX idx_availability_rules_calendar_id ON availability_rules(calendar_id);
@@ -0,0 +1,5 @@
+ALTER SEQUENCE users_id_seq INCREMENT BY 50;
+ALTER SEQUENCE calendars_id_seq INCREMENT BY 50;
+ALTER SEQUENCE time_slots_id_seq INCREMENT BY 50;
+ALTER SEQUENCE meetings_id_seq INCREMENT BY 50;
+ALTER SEQUENCE availability_rules_id_seq INCREMENT BY 50;
@@ -0,0 +1,7 @@
+CREATE INDEX idx_time_slots_calendar_start_time_id ON time_slots(calendar_id, start_time, id);
+CREATE INDEX idx_meetings_organizer_id_id ON meetings(organizer_id, id);
+CREATE INDEX idx_meeting_participants_user_id_meeting_id ON meeting_participants(user_id, meeting_id);
+
+DROP INDEX idx_time_slots_calendar_id;
+DROP INDEX idx_meetings_organizer_id;
+DROP INDEX idx_meeting_participants_user_id;
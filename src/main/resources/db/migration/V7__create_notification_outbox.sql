@@ -0,0 +1,13 @@
+CREATE TABLE notification_outbox (
+    id BIGSERIAL PRIMARY KEY,
+    type VARCHAR(30) NOT NULL CHECK (type IN ('MEETING_INVITATION', 'MEETING_ACCEPTANCE')),
+    recipient_id BIGINT NOT NULL,
+    meeting_id BIGINT NOT NULL,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    available_at TIMESTAMP NOT NULL,
+    created_at TIMESTAMP NOT NULL
+);
+
+ALTER SEQUENCE notification_outbox_id_seq INCREMENT BY 50;
+
+CREATE INDEX idx_notification_outbox_available_at_id ON notification_outbox(available_at, id);
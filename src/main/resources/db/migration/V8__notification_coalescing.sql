@@ -0,0 +1,5 @@
+ALTER TABLE notification_outbox DROP CONSTRAINT notification_outbox_type_check;
+ALTER TABLE notification_outbox ADD CONSTRAINT notification_outbox_type_check
+    CHECK (type IN ('MEETING_INVITATION', 'MEETING_RESCHEDULED', 'MEETING_CANCELLATION', 'MEETING_ACCEPTANCE'));
+
+CREATE INDEX idx_notification_outbox_recipient_id_id ON notification_outbox(recipient_id, id);
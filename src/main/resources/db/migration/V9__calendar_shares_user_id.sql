@@ -0,0 +1,18 @@
+ALTER TABLE time_slots DROP CONSTRAINT time_slots_calendar_id_fkey;
+ALTER TABLE availability_rules DROP CONSTRAINT availability_rules_calendar_id_fkey;
+ALTER TABLE time_slots DROP CONSTRAINT excl_time_slots_calendar_overlap;
+ALTER TABLE calendars DROP CONSTRAINT calendars_pkey;
+
+UPDATE time_slots ts SET calendar_id = c.user_id FROM calendars c WHERE ts.calendar_id = c.id;
+UPDATE availability_rules ar SET calendar_id = c.user_id FROM calendars c WHERE ar.calendar_id = c.id;
+UPDATE calendars SET id = user_id;
+
+ALTER TABLE calendars ADD CONSTRAINT calendars_pkey PRIMARY KEY (id);
+ALTER TABLE calendars ALTER COLUMN id DROP DEFAULT;
+DROP SEQUENCE calendars_id_seq;
+ALTER TABLE calendars DROP COLUMN user_id;
+ALTER TABLE calendars ADD CONSTRAINT calendars_id_fkey FOREIGN KEY (id) REFERENCES users(id);
+ALTER TABLE time_slots ADD CONSTRAINT excl_time_slots_calendar_overlap
+    EXCLUDE USING gist (calendar_id WITH =, time_range WITH &&);
+ALTER TABLE time_slots ADD CONSTRAINT time_slots_calendar_id_fkey FOREIGN KEY (calendar_id) REFERENCES calendars(id);
+ALTER TABLE availability_rules ADD CONSTRAINT availability_rules_calendar_id_fkey FOREIGN KEY (calendar_id) REFERENCES calendars(id);
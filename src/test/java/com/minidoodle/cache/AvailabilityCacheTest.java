@@ -0,0 +1,90 @@
+package com.minidoodle.cache;
+
+import com.minidoodle.dto.TimeSlotDTO;
+import com.minidoodle.model.TimeSlotStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class AvailabilityCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private AvailabilityCache availabilityCache;
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        availabilityCache = new AvailabilityCache(meterRegistry, DataSize.ofMegabytes(1), Duration.ofMinutes(1));
+        startTime = LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES);
+        endTime = startTime.plusDays(28);
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    void get_WhenCalendarIsUnchanged_ShouldLoadOnce() {
+        List<TimeSlotDTO> first = availabilityCache.get(1L, "1", startTime, endTime, () -> load(3));
+        List<TimeSlotDTO> second = availabilityCache.get(1L, "1", startTime, endTime, () -> load(3));
+
+        assertThat(second).isSameAs(first).hasSize(3);
+        assertThat(loads).hasValue(1);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "availability").tag("result", "hit").functionCounter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void get_WhenWindowDiffers_ShouldLoadSeparately() {
+        availabilityCache.get(1L, "1", startTime, endTime, () -> load(3));
+        availabilityCache.get(1L, "1", startTime.plusMinutes(1), endTime.plusMinutes(1), () -> load(3));
+        availabilityCache.get(2L, "1", startTime, endTime, () -> load(3));
+
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    void get_WhenVersionChanges_ShouldNotServeStaleResult() {
+        availabilityCache.get(1L, "1", startTime, endTime, () -> load(3));
+        availabilityCache.get(2L, "1", startTime, endTime, () -> load(3));
+
+        List<TimeSlotDTO> reloaded = availabilityCache.get(1L, "2", startTime, endTime, () -> load(5));
+        availabilityCache.get(2L, "1", startTime, endTime, () -> load(5));
+
+        assertThat(reloaded).hasSize(5);
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    void get_WhenResultsExceedMaximumSize_ShouldEvict() {
+        for (long calendarId = 1; calendarId <= 100; calendarId++) {
+            availabilityCache.get(calendarId, "1", startTime, endTime, () -> load(100));
+        }
+
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+                assertThat(meterRegistry.get("cache.evictions").tag("cache", "availability").functionCounter().count())
+                        .isPositive());
+    }
+
+    private List<TimeSlotDTO> load(int slots) {
+        loads.incrementAndGet();
+        Instant start = Instant.now().truncatedTo(ChronoUnit.HOURS);
+        List<TimeSlotDTO> result = new ArrayList<>(slots);
+        for (long i = 0; i < slots; i++) {
+            result.add(new TimeSlotDTO(i, 1L, start.plus(i, ChronoUnit.HOURS), start.plus(i + 1, ChronoUnit.HOURS), TimeSlotStatus.AVAILABLE));
+        }
+        return result;
+    }
+}
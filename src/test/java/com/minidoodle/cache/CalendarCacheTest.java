@@ -0,0 +1,57 @@
+package com.minidoodle.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CalendarCacheTest {
+
+    private final CalendarCache<String> calendarCache = new CalendarCache<>(100);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void getOrLoad_ShouldLoadOnceAndApplyUpdatesInPlace() {
+        assertThat(calendarCache.getOrLoad(1L, this::load)).isEqualTo("calendar-1");
+
+        calendarCache.update(1L, value -> value + "+changed");
+
+        assertThat(calendarCache.getOrLoad(1L, this::load)).isEqualTo("calendar-1+changed");
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void getOrLoad_WhenCalendarChangesDuringLoad_ShouldNotCacheTheStaleValue() {
+        String loaded = calendarCache.getOrLoad(1L, id -> {
+            calendarCache.update(id, value -> value + "+changed");
+            return load(id);
+        });
+
+        assertThat(loaded).isEqualTo("calendar-1");
+        assertThat(calendarCache.getOrLoad(1L, this::load)).isEqualTo("calendar-1");
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void update_WhenCalendarIsNotLoaded_ShouldNotLoadIt() {
+        calendarCache.update(1L, value -> value + "+changed");
+
+        assertThat(calendarCache.estimatedSize()).isZero();
+        assertThat(loads).hasValue(0);
+    }
+
+    @Test
+    void getOrLoad_ShouldKeepAtMostMaxCalendars() {
+        for (long calendarId = 1; calendarId <= 1000; calendarId++) {
+            calendarCache.getOrLoad(calendarId, this::load);
+        }
+
+        assertThat(calendarCache.estimatedSize()).isLessThanOrEqualTo(100);
+    }
+
+    private String load(Long calendarId) {
+        loads.incrementAndGet();
+        return "calendar-" + calendarId;
+    }
+}
@@ -0,0 +1,136 @@
+package com.minidoodle.cache;
+
+import com.minidoodle.model.TimeSlotStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CalendarIntervalIndexTest {
+
+    private Instant now;
+    private CalendarIntervalIndex index;
+
+    @BeforeEach
+    void setUp() {
+        now = Instant.now().truncatedTo(ChronoUnit.HOURS);
+        List<TimeSlotInterval> intervals = new ArrayList<>();
+        for (long i = 0; i < 100; i++) {
+            TimeSlotStatus status = i % 3 == 0 ? TimeSlotStatus.BOOKED : TimeSlotStatus.AVAILABLE;
+            intervals.add(new TimeSlotInterval(i + 1, hour(i), hour(i + 1), status));
+        }
+        index = CalendarIntervalIndex.of(intervals);
+    }
+
+    @Test
+    void findOverlapping_ShouldReturnMatchingStatusInStartOrder() {
+        List<Long> result = index.findOverlapping(hour(10).plus(30, ChronoUnit.MINUTES), hour(13), TimeSlotStatus.AVAILABLE);
+
+        assertThat(result).containsExactly(11L, 12L);
+    }
+
+    @Test
+    void findOverlapping_ShouldExcludeSlotsOnlyTouchingTheRange() {
+        assertThat(index.findOverlapping(hour(4), hour(5), TimeSlotStatus.AVAILABLE)).containsExactly(5L);
+        assertThat(index.findOverlapping(hour(5), hour(5), TimeSlotStatus.AVAILABLE)).isEmpty();
+    }
+
+    @Test
+    void findFirstOverlapping_ShouldReturnEarliestMatchingSlot() {
+        assertThat(index.findFirstOverlapping(hour(1).plus(15, ChronoUnit.MINUTES), hour(3), TimeSlotStatus.AVAILABLE))
+                .contains(new TimeSlotInterval(2L, hour(1), hour(2), TimeSlotStatus.AVAILABLE));
+        assertThat(index.findFirstOverlapping(hour(200), hour(201), TimeSlotStatus.AVAILABLE)).isEmpty();
+    }
+
+    @Test
+    void findFirstOverlapping_WithAdjacentSlots_ShouldReturnTheSlotCoveringTheRange() {
+        assertThat(index.findFirstOverlapping(hour(2), hour(3), TimeSlotStatus.AVAILABLE))
+                .contains(new TimeSlotInterval(3L, hour(2), hour(3), TimeSlotStatus.AVAILABLE));
+    }
+
+    @Test
+    void intersects_ShouldIgnoreSlotsOnlyTouchingTheRange() {
+        CalendarIntervalIndex single = CalendarIntervalIndex.of(List.of(new TimeSlotInterval(1L, hour(1), hour(2), TimeSlotStatus.BUSY)));
+
+        assertThat(single.intersects(hour(2), hour(3))).isFalse();
+        assertThat(single.intersects(hour(0), hour(1))).isFalse();
+        assertThat(single.intersects(hour(1).plus(59, ChronoUnit.MINUTES), hour(3))).isTrue();
+    }
+
+    @Test
+    void withSlot_ShouldReplaceExistingSlot() {
+        CalendarIntervalIndex updated = index.withSlot(new TimeSlotInterval(2L, hour(1), hour(2), TimeSlotStatus.BOOKED));
+
+        assertThat(updated.size()).isEqualTo(100);
+        assertThat(updated.findOverlapping(hour(1), hour(3), TimeSlotStatus.AVAILABLE)).containsExactly(3L);
+        assertThat(index.findOverlapping(hour(1), hour(3), TimeSlotStatus.AVAILABLE)).containsExactly(2L, 3L);
+    }
+
+    @Test
+    void withoutSlot_ShouldRemoveSlot() {
+        CalendarIntervalIndex updated = index.withoutSlot(3L);
+
+        assertThat(updated.size()).isEqualTo(99);
+        assertThat(updated.findOverlapping(hour(1), hour(3), TimeSlotStatus.AVAILABLE)).containsExactly(2L);
+    }
+
+    @Test
+    void withSlot_ShouldInsertNewSlotInStartOrder() {
+        CalendarIntervalIndex updated = index.withSlot(new TimeSlotInterval(500L, hour(4).plus(30, ChronoUnit.MINUTES), hour(5), TimeSlotStatus.AVAILABLE));
+
+        assertThat(updated.size()).isEqualTo(101);
+        assertThat(updated.findOverlapping(hour(4).plus(45, ChronoUnit.MINUTES), hour(4).plus(50, ChronoUnit.MINUTES), TimeSlotStatus.AVAILABLE))
+                .containsExactly(5L, 500L);
+        assertThat(updated.withoutSlot(500L).findOverlapping(hour(4), hour(6), TimeSlotStatus.AVAILABLE)).containsExactly(5L, 6L);
+    }
+
+    @Test
+    void withSlot_WhenStartTimeChanges_ShouldMoveSlot() {
+        CalendarIntervalIndex updated = index.withSlot(new TimeSlotInterval(2L, hour(200), hour(201), TimeSlotStatus.AVAILABLE));
+
+        assertThat(updated.size()).isEqualTo(100);
+        assertThat(updated.findOverlapping(hour(1), hour(3), TimeSlotStatus.AVAILABLE)).containsExactly(3L);
+        assertThat(updated.findOverlapping(hour(200), hour(201), TimeSlotStatus.AVAILABLE)).containsExactly(2L);
+    }
+
+    @Test
+    void withSlotAndWithoutSlot_ShouldMatchAFreshlyBuiltIndex() {
+        Random random = new Random(42);
+        Map<Long, TimeSlotInterval> expected = new HashMap<>();
+        CalendarIntervalIndex updated = CalendarIntervalIndex.of(List.of());
+        for (int i = 0; i < 500; i++) {
+            long id = random.nextInt(50) + 1;
+            if (random.nextInt(4) == 0) {
+                expected.remove(id);
+                updated = updated.withoutSlot(id);
+            } else {
+                long start = random.nextInt(48);
+                TimeSlotInterval interval = new TimeSlotInterval(id, hour(start), hour(start + 1 + random.nextInt(3)),
+                        random.nextBoolean() ? TimeSlotStatus.AVAILABLE : TimeSlotStatus.BUSY);
+                expected.put(id, interval);
+                updated = updated.withSlot(interval);
+            }
+        }
+
+        CalendarIntervalIndex rebuilt = CalendarIntervalIndex.of(expected.values());
+        assertThat(updated.size()).isEqualTo(rebuilt.size());
+        for (long start = 0; start < 52; start++) {
+            for (TimeSlotStatus status : TimeSlotStatus.values()) {
+                assertThat(updated.findOverlapping(hour(start), hour(start + 1), status))
+                        .isEqualTo(rebuilt.findOverlapping(hour(start), hour(start + 1), status));
+            }
+        }
+    }
+
+    private Instant hour(long offset) {
+        return now.plus(offset, ChronoUnit.HOURS);
+    }
+}
@@ -0,0 +1,82 @@
+package com.minidoodle.cache;
+
+import com.minidoodle.model.TimeSlotStatus;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FreeBusyDayTest {
+
+    private final LocalDate day = LocalDate.of(2025, 3, 3);
+    private final Instant midnight = day.atStartOfDay(ZoneOffset.UTC).toInstant();
+
+    @Test
+    void of_ShouldMarkEveryBucketTouchedByBusyOrBookedSlots() {
+        FreeBusyDay freeBusyDay = FreeBusyDay.of(day, List.of(
+                interval(1L, minutes(9 * 60), minutes(10 * 60), TimeSlotStatus.BUSY),
+                interval(2L, minutes(10 * 60 + 2), minutes(10 * 60 + 7), TimeSlotStatus.BOOKED),
+                interval(3L, minutes(12 * 60), minutes(13 * 60), TimeSlotStatus.AVAILABLE)));
+
+        assertThat(freeBusyDay.busyBuckets()).isEqualTo(12 + 2);
+        assertThat(freeBusyDay.isBusy(108)).isTrue();
+        assertThat(freeBusyDay.isBusy(119)).isTrue();
+        assertThat(freeBusyDay.isBusy(120)).isTrue();
+        assertThat(freeBusyDay.isBusy(121)).isTrue();
+        assertThat(freeBusyDay.isBusy(122)).isFalse();
+        assertThat(freeBusyDay.isBusy(144)).isFalse();
+    }
+
+    @Test
+    void of_ShouldClipSlotsToTheDay() {
+        FreeBusyDay freeBusyDay = FreeBusyDay.of(day, List.of(
+                interval(1L, minutes(-60), minutes(5), TimeSlotStatus.BUSY),
+                interval(2L, minutes(23 * 60 + 55), minutes(25 * 60), TimeSlotStatus.BUSY)));
+
+        assertThat(freeBusyDay.busyBuckets()).isEqualTo(2);
+        assertThat(freeBusyDay.isBusy(0)).isTrue();
+        assertThat(freeBusyDay.isBusy(FreeBusyDay.BUCKETS - 1)).isTrue();
+    }
+
+    @Test
+    void isFree_ShouldCheckEveryBucketInTheRange() {
+        FreeBusyDay freeBusyDay = FreeBusyDay.of(day, List.of(
+                interval(1L, minutes(6 * 60), minutes(6 * 60 + 5), TimeSlotStatus.BUSY)));
+
+        assertThat(freeBusyDay.isFree(minutes(0), minutes(6 * 60))).isTrue();
+        assertThat(freeBusyDay.isFree(minutes(6 * 60 + 5), minutes(24 * 60))).isTrue();
+        assertThat(freeBusyDay.isFree(minutes(5 * 60), minutes(7 * 60))).isFalse();
+        assertThat(freeBusyDay.isFree(minutes(6 * 60 + 4), minutes(6 * 60 + 6))).isFalse();
+    }
+
+    @Test
+    void orAndAnd_ShouldCombineBucketsWordByWord() {
+        FreeBusyDay morning = FreeBusyDay.of(day, List.of(interval(1L, minutes(0), minutes(12 * 60), TimeSlotStatus.BUSY)));
+        FreeBusyDay midday = FreeBusyDay.of(day, List.of(interval(2L, minutes(11 * 60), minutes(13 * 60), TimeSlotStatus.BOOKED)));
+
+        assertThat(morning.or(midday).busyBuckets()).isEqualTo(13 * 12);
+        assertThat(morning.and(midday).busyBuckets()).isEqualTo(12);
+        assertThat(morning.or(midday).isFree(minutes(13 * 60), minutes(24 * 60))).isTrue();
+        assertThat(morning.and(FreeBusyDay.free(day))).isEqualTo(FreeBusyDay.free(day));
+    }
+
+    @Test
+    void or_WhenDaysDiffer_ShouldBeRejected() {
+        assertThatThrownBy(() -> FreeBusyDay.free(day).or(FreeBusyDay.free(day.plusDays(1))))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Instant minutes(long offset) {
+        return midnight.plus(offset, ChronoUnit.MINUTES);
+    }
+
+    private static TimeSlotInterval interval(Long id, Instant startTime, Instant endTime, TimeSlotStatus status) {
+        return new TimeSlotInterval(id, startTime, endTime, status);
+    }
+}
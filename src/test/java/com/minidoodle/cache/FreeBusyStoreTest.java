@@ -0,0 +1,93 @@
+package com.minidoodle.cache;
+
+import com.minidoodle.config.PrimaryReader;
+import com.minidoodle.event.TimeSlotChangedEvent;
+import com.minidoodle.model.TimeSlotStatus;
+import com.minidoodle.repository.TimeSlotRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class FreeBusyStoreTest {
+
+    private final LocalDate day = LocalDate.of(2025, 3, 3);
+    private final Instant midnight = day.atStartOfDay(ZoneOffset.UTC).toInstant();
+
+    private TimeSlotRepository timeSlotRepository;
+    private FreeBusyStore freeBusyStore;
+
+    @BeforeEach
+    void setUp() {
+        timeSlotRepository = mock(TimeSlotRepository.class);
+        TimeSlotIndex timeSlotIndex = mock(TimeSlotIndex.class);
+        when(timeSlotIndex.resolveCalendarId(anyLong())).thenAnswer(invocation -> Optional.of(invocation.getArgument(0)));
+        when(timeSlotRepository.findIntervalsByCalendarId(1L)).thenReturn(List.of(
+                new TimeSlotInterval(10L, hour(9), hour(10), TimeSlotStatus.BOOKED),
+                new TimeSlotInterval(11L, hour(10), hour(11), TimeSlotStatus.AVAILABLE)));
+        when(timeSlotRepository.findIntervalsByCalendarId(2L)).thenReturn(List.of(
+                new TimeSlotInterval(20L, hour(10), hour(11), TimeSlotStatus.BUSY),
+                new TimeSlotInterval(21L, hour(23), hour(25), TimeSlotStatus.BUSY)));
+        PrimaryReader primaryReader = mock(PrimaryReader.class);
+        when(primaryReader.read(any())).thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(0).get());
+        freeBusyStore = new FreeBusyStore(timeSlotRepository, timeSlotIndex, primaryReader, 100);
+    }
+
+    @Test
+    void areAllFree_ShouldIntersectParticipantsAcrossDays() {
+        assertThat(freeBusyStore.areAllFree(Set.of(1L, 2L), hour(8), hour(9))).isTrue();
+        assertThat(freeBusyStore.areAllFree(Set.of(1L, 2L), hour(9), hour(10))).isFalse();
+        assertThat(freeBusyStore.areAllFree(Set.of(1L, 2L), hour(11), hour(23))).isTrue();
+        assertThat(freeBusyStore.isFree(2L, hour(24), hour(26))).isFalse();
+        assertThat(freeBusyStore.getBusyUnion(Set.of(1L, 2L), day).busyBuckets()).isEqualTo(3 * 12);
+        verify(timeSlotRepository, times(1)).findIntervalsByCalendarId(1L);
+    }
+
+    @Test
+    void isFree_ShouldNotRoundSlotsThatShareABucket() {
+        when(timeSlotRepository.findIntervalsByCalendarId(3L)).thenReturn(List.of(
+                new TimeSlotInterval(30L, hour(9), hour(10).plusSeconds(120), TimeSlotStatus.BUSY)));
+
+        assertThat(freeBusyStore.isFree(3L, hour(10).plusSeconds(120), hour(11))).isTrue();
+        assertThat(freeBusyStore.isFree(3L, hour(10).plusSeconds(60), hour(11))).isFalse();
+        assertThat(freeBusyStore.areAllFree(Set.of(1L, 3L), hour(10).plusSeconds(120), hour(10).plusSeconds(600))).isTrue();
+    }
+
+    @Test
+    void onTimeSlotChanged_ShouldUpdateLoadedCalendarWithoutReloading() {
+        assertThat(freeBusyStore.isFree(1L, hour(10), hour(11))).isTrue();
+
+        freeBusyStore.onTimeSlotChanged(new TimeSlotChangedEvent(1L, 11L, hour(10), hour(11), TimeSlotStatus.BOOKED, false));
+        assertThat(freeBusyStore.isFree(1L, hour(10), hour(11))).isFalse();
+
+        freeBusyStore.onTimeSlotChanged(new TimeSlotChangedEvent(1L, 10L, hour(9), hour(10), TimeSlotStatus.AVAILABLE, false));
+        freeBusyStore.onTimeSlotChanged(new TimeSlotChangedEvent(1L, 11L, hour(10), hour(11), TimeSlotStatus.BOOKED, true));
+        assertThat(freeBusyStore.isFree(1L, hour(0), hour(24))).isTrue();
+        verify(timeSlotRepository, times(1)).findIntervalsByCalendarId(1L);
+    }
+
+    @Test
+    void rebuild_ShouldReloadFromTimeSlots() {
+        freeBusyStore.isFree(1L, hour(9), hour(10));
+        when(timeSlotRepository.findIntervalsByCalendarId(1L)).thenReturn(List.of());
+
+        freeBusyStore.rebuild(1L);
+
+        assertThat(freeBusyStore.isFree(1L, hour(9), hour(10))).isTrue();
+        verify(timeSlotRepository, times(2)).findIntervalsByCalendarId(1L);
+    }
+
+    private Instant hour(long offset) {
+        return midnight.plus(offset, ChronoUnit.HOURS);
+    }
+}
@@ -0,0 +1,151 @@
+package com.minidoodle.config;
+
+import com.minidoodle.cache.TimeSlotIndex;
+import com.minidoodle.dto.TimeSlotDTO;
+import com.minidoodle.model.TimeSlot;
+import com.minidoodle.model.TimeSlotStatus;
+import com.minidoodle.model.User;
+import com.minidoodle.repository.TimeSlotRepository;
+import com.minidoodle.repository.UserRepository;
+import com.minidoodle.service.TimeSlotService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "minidoodle.outbox.dispatcher.enabled=false",
+        "minidoodle.datasource.replica.url=${spring.datasource.url}&ApplicationName=replica&currentSchema=replica"
+})
+class ReadWriteRoutingDataSourceTest {
+    private static final String APPLICATION_NAME_QUERY = "SELECT current_setting('application_name')";
+    private static final Instant START = Instant.now().truncatedTo(ChronoUnit.DAYS).plus(3, ChronoUnit.DAYS);
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ReadWriteRoutingDataSource readWriteRoutingDataSource;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+
+    @Autowired
+    private TimeSlotService timeSlotService;
+
+    @Autowired
+    private TimeSlotIndex timeSlotIndex;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TimeSlotRepository timeSlotRepository;
+
+    @Test
+    void readOnlyTransaction_ShouldUseReplica() {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        String applicationName = readOnly.execute(status -> jdbcTemplate.queryForObject(APPLICATION_NAME_QUERY, String.class));
+
+        assertThat(readWriteRoutingDataSource.isReplicaUsable()).isTrue();
+        assertThat(applicationName).isEqualTo("replica");
+    }
+
+    @Test
+    void readWriteTransaction_ShouldUsePrimary() {
+        String applicationName = new TransactionTemplate(transactionManager)
+                .execute(status -> jdbcTemplate.queryForObject(APPLICATION_NAME_QUERY, String.class));
+
+        assertThat(applicationName).isNotEqualTo("replica");
+    }
+
+    @Test
+    void getAvailableTimeSlots_ShouldReadFromPrimary() {
+        User user = createUserWithSlot();
+        try {
+            String version = timeSlotService.getAvailableTimeSlotsVersion(user.getId());
+            assertThat(version).isNotBlank();
+            assertThat(timeSlotService.getAvailableTimeSlots(user.getId(), version))
+                    .extracting(TimeSlotDTO::getStatus)
+                    .containsExactly(TimeSlotStatus.AVAILABLE);
+        } finally {
+            deleteUser(user);
+        }
+    }
+
+    @Test
+    void timeSlotIndex_WhenLoadedInsideReadOnlyTransaction_ShouldReadFromPrimary() {
+        User user = createUserWithSlot();
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        try {
+            Boolean intersects = readOnly.execute(status -> {
+                assertThat(jdbcTemplate.queryForObject(APPLICATION_NAME_QUERY, String.class)).isEqualTo("replica");
+                return timeSlotIndex.intersectsAny(user.getId(), START, START.plus(1, ChronoUnit.HOURS));
+            });
+
+            assertThat(intersects).isTrue();
+        } finally {
+            deleteUser(user);
+        }
+    }
+
+    @Test
+    void readOnlyTransaction_WhenReplicaUnreachable_ShouldFallBackToPrimary() throws Exception {
+        ReadWriteRoutingDataSource dataSource = new ReadWriteRoutingDataSource(primaryDataSource,
+                new DriverManagerDataSource("jdbc:postgresql://localhost:1/minidoodle"), Duration.ofSeconds(5));
+        dataSource.afterPropertiesSet();
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        try (Connection connection = dataSource.getConnection()) {
+            assertThat(dataSource.isReplicaUsable()).isFalse();
+            assertThat(new JdbcTemplate(dataSource).queryForObject(APPLICATION_NAME_QUERY, String.class))
+                    .isNotEqualTo("replica");
+            assertThat(connection.isReadOnly()).isFalse();
+        } finally {
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        }
+    }
+
+    private User createUserWithSlot() {
+        User user = new User();
+        user.setEmail("routing-" + System.nanoTime() + "@example.com");
+        user.setName("Routing User");
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            User saved = userRepository.save(user);
+            TimeSlot slot = new TimeSlot();
+            slot.setCalendar(saved.getCalendar());
+            slot.setStartTime(START);
+            slot.setEndTime(START.plus(1, ChronoUnit.HOURS));
+            slot.setStatus(TimeSlotStatus.AVAILABLE);
+            timeSlotRepository.save(slot);
+            return saved;
+        });
+    }
+
+    private void deleteUser(User user) {
+        jdbcTemplate.update("DELETE FROM time_slots WHERE calendar_id = ?", user.getId());
+        jdbcTemplate.update("DELETE FROM calendars WHERE id = ?", user.getId());
+        jdbcTemplate.update("DELETE FROM users WHERE id = ?", user.getId());
+        timeSlotIndex.evict(user.getId());
+    }
+}
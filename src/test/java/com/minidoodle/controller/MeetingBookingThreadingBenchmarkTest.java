@@ -0,0 +1,171 @@
+package com.minidoodle.controller;
+
+import com.minidoodle.MiniDoodleApplication;
+import com.minidoodle.model.TimeSlot;
+import com.minidoodle.model.TimeSlotStatus;
+import com.minidoodle.model.User;
+import com.minidoodle.repository.TimeSlotRepository;
+import com.minidoodle.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+@Tag("benchmark")
+class MeetingBookingThreadingBenchmarkTest {
+
+    private static final int CLIENTS = 2_000;
+    private static final int WARMUP_CLIENTS = 100;
+    private static final int BOOKINGS_PER_CLIENT = 3;
+
+    @Test
+    void createMeeting_With2000ConcurrentClients_ShouldCompareVirtualAndPlatformThreads() throws Exception {
+        LoadResult platform = runBookingLoad(false);
+        LoadResult virtual = runBookingLoad(true);
+
+        log.info("Booking {} meetings from {} concurrent clients", CLIENTS * BOOKINGS_PER_CLIENT, CLIENTS);
+        log.info("  platform threads: {} req/s, p50 {} ms, p99 {} ms, {} failed",
+                Math.round(platform.throughput()), platform.percentileMillis(50), platform.percentileMillis(99), platform.failures());
+        log.info("  virtual threads:  {} req/s, p50 {} ms, p99 {} ms, {} failed",
+                Math.round(virtual.throughput()), virtual.percentileMillis(50), virtual.percentileMillis(99), virtual.failures());
+
+        assertThat(platform.failures()).isZero();
+        assertThat(virtual.failures()).isZero();
+    }
+
+    private LoadResult runBookingLoad(boolean virtualThreads) throws Exception {
+        String emailPrefix = "booking-load-" + (virtualThreads ? "virtual" : "platform") + "-" + System.nanoTime();
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(MiniDoodleApplication.class)
+                .run("--server.port=0", "--spring.threads.virtual.enabled=" + virtualThreads)) {
+            try {
+                URI meetingsUri = URI.create("http://localhost:" + context.getEnvironment().getProperty("local.server.port") + "/api/meetings");
+                List<Booker> bookers = seedBookers(context, emailPrefix, CLIENTS + WARMUP_CLIENTS);
+                fireBookings(meetingsUri, bookers.subList(0, WARMUP_CLIENTS));
+                return fireBookings(meetingsUri, bookers.subList(WARMUP_CLIENTS, bookers.size()));
+            } finally {
+                deleteBookers(context.getBean(JdbcTemplate.class), emailPrefix);
+            }
+        }
+    }
+
+    private LoadResult fireBookings(URI meetingsUri, List<Booker> bookers) throws InterruptedException {
+        long[] latencies = new long[bookers.size() * BOOKINGS_PER_CLIENT];
+        AtomicInteger failures = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        long startedAt;
+        long elapsed;
+
+        try (HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+             ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int client = 0; client < bookers.size(); client++) {
+                Booker booker = bookers.get(client);
+                int offset = client * BOOKINGS_PER_CLIENT;
+                clients.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < BOOKINGS_PER_CLIENT; i++) {
+                        HttpRequest request = HttpRequest.newBuilder(meetingsUri)
+                                .header("Content-Type", "application/json")
+                                .POST(HttpRequest.BodyPublishers.ofString("{\"title\":\"Load test\",\"organizerId\":" + booker.userId()
+                                        + ",\"timeSlotId\":" + booker.timeSlotIds().get(i) + ",\"participantIds\":[]}"))
+                                .build();
+                        long requestStart = System.nanoTime();
+                        try {
+                            if (httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() != 201) {
+                                failures.incrementAndGet();
+                            }
+                        } catch (Exception e) {
+                            failures.incrementAndGet();
+                        }
+                        latencies[offset + i] = System.nanoTime() - requestStart;
+                    }
+                    return null;
+                });
+            }
+            startedAt = System.nanoTime();
+            start.countDown();
+            clients.shutdown();
+            clients.awaitTermination(10, TimeUnit.MINUTES);
+            elapsed = System.nanoTime() - startedAt;
+        }
+        Arrays.sort(latencies);
+        return new LoadResult(latencies, elapsed, failures.get());
+    }
+
+    private List<Booker> seedBookers(ConfigurableApplicationContext context, String emailPrefix, int count) {
+        List<User> users = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            User user = new User();
+            user.setEmail(emailPrefix + "-" + i + "@example.com");
+            user.setName("Load User " + i);
+            users.add(user);
+        }
+        context.getBean(UserRepository.class).saveAll(users);
+
+        Instant start = Instant.now().truncatedTo(ChronoUnit.DAYS).plus(1, ChronoUnit.DAYS);
+        List<TimeSlot> slots = new ArrayList<>(count * BOOKINGS_PER_CLIENT);
+        for (User user : users) {
+            for (int i = 0; i < BOOKINGS_PER_CLIENT; i++) {
+                TimeSlot slot = new TimeSlot();
+                slot.setCalendar(user.getCalendar());
+                slot.setStartTime(start.plus(i, ChronoUnit.HOURS));
+                slot.setEndTime(start.plus(i + 1, ChronoUnit.HOURS));
+                slot.setStatus(TimeSlotStatus.AVAILABLE);
+                slots.add(slot);
+            }
+        }
+        context.getBean(TimeSlotRepository.class).saveAll(slots);
+
+        List<Booker> bookers = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            List<Long> timeSlotIds = slots.subList(i * BOOKINGS_PER_CLIENT, (i + 1) * BOOKINGS_PER_CLIENT).stream()
+                    .map(TimeSlot::getId)
+                    .toList();
+            bookers.add(new Booker(users.get(i).getId(), timeSlotIds));
+        }
+        return bookers;
+    }
+
+    private void deleteBookers(JdbcTemplate jdbcTemplate, String emailPrefix) {
+        String users = "SELECT id FROM users WHERE email LIKE '" + emailPrefix + "-%'";
+        jdbcTemplate.update("DELETE FROM notification_outbox WHERE recipient_id IN (" + users + ")");
+        jdbcTemplate.update("DELETE FROM meeting_participants WHERE user_id IN (" + users + ")");
+        jdbcTemplate.update("DELETE FROM meetings WHERE organizer_id IN (" + users + ")");
+        jdbcTemplate.update("DELETE FROM time_slots WHERE calendar_id IN (" + users + ")");
+        jdbcTemplate.update("DELETE FROM calendars WHERE id IN (" + users + ")");
+        jdbcTemplate.update("DELETE FROM users WHERE email LIKE '" + emailPrefix + "-%'");
+    }
+
+    private record Booker(Long userId, List<Long> timeSlotIds) {
+    }
+
+    private record LoadResult(long[] sortedLatencies, long elapsedNanos, int failures) {
+        double throughput() {
+            return sortedLatencies.length / (elapsedNanos / 1_000_000_000.0);
+        }
+
+        long percentileMillis(int percentile) {
+            int index = Math.min(sortedLatencies.length - 1, (int) Math.ceil(percentile / 100.0 * sortedLatencies.length) - 1);
+            return sortedLatencies[index] / 1_000_000;
+        }
+    }
+}
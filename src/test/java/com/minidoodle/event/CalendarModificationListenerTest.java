@@ -0,0 +1,130 @@
+package com.minidoodle.event;
+
+import com.minidoodle.model.Calendar;
+import com.minidoodle.model.TimeSlot;
+import com.minidoodle.model.TimeSlotStatus;
+import com.minidoodle.model.User;
+import com.minidoodle.repository.CalendarRepository;
+import com.minidoodle.repository.TimeSlotRepository;
+import com.minidoodle.repository.UserRepository;
+import com.minidoodle.service.TimeSlotService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest(properties = "minidoodle.outbox.dispatcher.enabled=false")
+class CalendarModificationListenerTest {
+    @Autowired
+    private TimeSlotService timeSlotService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TimeSlotRepository timeSlotRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private TransactionTemplate transactionTemplate;
+    private User user;
+    private TimeSlot timeSlot;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        User newUser = new User();
+        newUser.setEmail("calendar-version-" + System.nanoTime() + "@example.com");
+        newUser.setName("Calendar Version");
+        user = transactionTemplate.execute(status -> userRepository.save(newUser));
+
+        Instant start = Instant.now().truncatedTo(ChronoUnit.DAYS).plus(1, ChronoUnit.DAYS);
+        TimeSlot slot = new TimeSlot();
+        slot.setCalendar(user.getCalendar());
+        slot.setStartTime(start);
+        slot.setEndTime(start.plus(1, ChronoUnit.HOURS));
+        slot.setStatus(TimeSlotStatus.AVAILABLE);
+        timeSlot = transactionTemplate.execute(status -> timeSlotRepository.save(slot));
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM time_slots WHERE calendar_id = ?", user.getId());
+        jdbcTemplate.update("DELETE FROM calendars WHERE id = ?", user.getId());
+        jdbcTemplate.update("DELETE FROM users WHERE id = ?", user.getId());
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    void onTimeSlotChanged_ShouldBumpVersionAfterCommitWithoutLockingCalendar() {
+        String before = timeSlotService.getCalendarVersion(user.getId());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            timeSlotService.markTimeSlotAsBusy(timeSlot.getId());
+            entityManager.flush();
+
+            assertThat(CompletableFuture.supplyAsync(() -> jdbcTemplate.queryForObject(
+                    "SELECT id FROM calendars WHERE id = ? FOR UPDATE NOWAIT", Long.class, user.getId())).join())
+                    .isEqualTo(user.getId());
+        });
+
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+                assertThat(timeSlotService.getCalendarVersion(user.getId())).isNotEqualTo(before));
+    }
+
+    @Test
+    void onTimeSlotChanged_WhenTransactionRollsBack_ShouldKeepVersion() {
+        String before = timeSlotService.getCalendarVersion(user.getId());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            timeSlotService.markTimeSlotAsBusy(timeSlot.getId());
+            status.setRollbackOnly();
+        });
+
+        assertThat(timeSlotService.getCalendarVersion(user.getId())).isEqualTo(before);
+    }
+
+    @Test
+    void onTimeSlotChanged_WhenBumpFails_ShouldRetryIt() {
+        CalendarRepository calendarRepository = mock(CalendarRepository.class);
+        PlatformTransactionManager failingTransactionManager = mock(PlatformTransactionManager.class);
+        when(failingTransactionManager.getTransaction(any())).thenReturn(mock(TransactionStatus.class));
+        Calendar calendar = new Calendar();
+        when(calendarRepository.findById(7L))
+                .thenThrow(new IllegalStateException("pool exhausted"))
+                .thenReturn(Optional.of(calendar));
+        CalendarModificationListener listener = new CalendarModificationListener(calendarRepository, failingTransactionManager, Duration.ofMillis(10));
+
+        listener.onTimeSlotChanged(new TimeSlotChangedEvent(7L, 1L, Instant.now(), Instant.now(), TimeSlotStatus.BUSY, false));
+
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> assertThat(calendar.getUpdatedAt()).isNotNull());
+        verify(calendarRepository, times(2)).findById(7L);
+    }
+}
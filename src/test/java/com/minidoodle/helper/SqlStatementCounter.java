@@ -0,0 +1,31 @@
+package com.minidoodle.helper;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class SqlStatementCounter implements StatementInspector {
+    private static final AtomicInteger STATEMENTS = new AtomicInteger();
+    private static volatile Thread countedThread;
+
+    @Override
+    public String inspect(String sql) {
+        if (Thread.currentThread() == countedThread && !sql.contains("nextval(")) {
+            STATEMENTS.incrementAndGet();
+        }
+        return sql;
+    }
+
+    public static void start() {
+        STATEMENTS.set(0);
+        countedThread = Thread.currentThread();
+    }
+
+    public static void stop() {
+        countedThread = null;
+    }
+
+    public static int count() {
+        return STATEMENTS.get();
+    }
+}
@@ -16,6 +16,7 @@ public class TestDataHelper {
     public static User createTestUser(Long id, String email, String name) {
         User user = new User();
         user.setId(id);
+        user.getCalendar().setId(id);
         user.setEmail(email);
         user.setName(name);
         return user;
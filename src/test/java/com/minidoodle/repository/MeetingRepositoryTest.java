@@ -0,0 +1,150 @@
+package com.minidoodle.repository;
+
+import com.minidoodle.dto.MeetingDTO;
+import com.minidoodle.mapper.MeetingMapper;
+import com.minidoodle.model.Meeting;
+import com.minidoodle.model.TimeSlot;
+import com.minidoodle.model.TimeSlotStatus;
+import com.minidoodle.model.User;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(MeetingMapper.class)
+class MeetingRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    @Autowired
+    private MeetingMapper meetingMapper;
+
+    private Statistics statistics;
+    private User organizer;
+    private int userCount;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        organizer = createUser();
+    }
+
+    @Test
+    void findByParticipantIdAndIdGreaterThan_ShouldUseConstantNumberOfQueries() {
+        long singleMeeting = countListingStatements(1, 1);
+        long manyMeetings = countListingStatements(20, 5);
+
+        assertThat(manyMeetings).isEqualTo(singleMeeting);
+    }
+
+    @Test
+    void findByOrganizerIdAndIdGreaterThanOrderByIdAsc_ShouldUseConstantNumberOfQueries() {
+        long singleMeeting = countOrganizerListingStatements(1, 1);
+        long manyMeetings = countOrganizerListingStatements(20, 5);
+
+        assertThat(manyMeetings).isEqualTo(singleMeeting);
+    }
+
+    @Test
+    void findWithParticipantsById_ShouldLoadParticipantsInOneQuery() {
+        User participant = createUser();
+        Meeting meeting = createMeeting(List.of(participant));
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        MeetingDTO result = meetingMapper.toDTO(meetingRepository.findWithParticipantsById(meeting.getId()).orElseThrow());
+
+        assertThat(result.getParticipantIds()).containsExactlyInAnyOrder(organizer.getId(), participant.getId());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    private long countListingStatements(int meetings, int participantsPerMeeting) {
+        User participant = createUser();
+        createMeetings(participant, meetings, participantsPerMeeting);
+        statistics.clear();
+
+        List<MeetingDTO> result = meetingRepository.findByParticipantIdAndIdGreaterThan(participant.getId(), 0L, Limit.of(50)).stream()
+                .map(meetingMapper::toDTO)
+                .toList();
+
+        assertThat(result).hasSize(meetings);
+        assertThat(result).allSatisfy(dto -> assertThat(dto.getParticipantIds()).hasSize(participantsPerMeeting + 2));
+        return statistics.getPrepareStatementCount();
+    }
+
+    private long countOrganizerListingStatements(int meetings, int participantsPerMeeting) {
+        organizer = createUser();
+        createMeetings(createUser(), meetings, participantsPerMeeting);
+        statistics.clear();
+
+        List<MeetingDTO> result = meetingRepository.findByOrganizerIdAndIdGreaterThanOrderByIdAsc(organizer.getId(), 0L, Limit.of(50)).stream()
+                .map(meetingMapper::toDTO)
+                .toList();
+
+        assertThat(result).hasSize(meetings);
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void createMeetings(User participant, int meetings, int participantsPerMeeting) {
+        for (int i = 0; i < meetings; i++) {
+            List<User> participants = new ArrayList<>();
+            participants.add(participant);
+            for (int j = 0; j < participantsPerMeeting; j++) {
+                participants.add(createUser());
+            }
+            createMeeting(participants);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private Meeting createMeeting(List<User> participants) {
+        Instant start = Instant.now().truncatedTo(ChronoUnit.HOURS).plus(userCount, ChronoUnit.DAYS);
+        TimeSlot timeSlot = new TimeSlot();
+        timeSlot.setCalendar(organizer.getCalendar());
+        timeSlot.setStartTime(start);
+        timeSlot.setEndTime(start.plus(1, ChronoUnit.HOURS));
+        timeSlot.setStatus(TimeSlotStatus.BOOKED);
+        entityManager.persist(timeSlot);
+
+        Meeting meeting = new Meeting();
+        meeting.setTitle("Meeting " + userCount);
+        meeting.setOrganizer(organizer);
+        meeting.setTimeSlot(timeSlot);
+        meeting.setParticipants(new HashSet<>(participants));
+        meeting.getParticipants().add(organizer);
+        return entityManager.persist(meeting);
+    }
+
+    private User createUser() {
+        userCount++;
+        User user = new User();
+        user.setEmail("user" + userCount + "@example.com");
+        user.setName("User " + userCount);
+        return entityManager.persist(user);
+    }
+}
@@ -0,0 +1,159 @@
+package com.minidoodle.repository;
+
+import com.minidoodle.model.NotificationOutboxEntry;
+import com.minidoodle.model.NotificationType;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class NotificationOutboxRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private NotificationOutboxRepository notificationOutboxRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void claimBatch_ShouldReturnOnlyRecipientsWithDueEntries() {
+        Instant now = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        NotificationOutboxEntry second = entityManager.persist(entry(2L, now.minusSeconds(10)));
+        NotificationOutboxEntry first = entityManager.persist(entry(1L, now.minusSeconds(60)));
+        entityManager.persist(entry(3L, now.plusSeconds(60)));
+        entityManager.flush();
+
+        List<NotificationOutboxEntry> batch = notificationOutboxRepository.claimBatch(now, 10);
+
+        assertThat(batch).extracting(NotificationOutboxEntry::getId).containsExactly(first.getId(), second.getId());
+    }
+
+    @Test
+    void claimBatch_ShouldIncludeEntriesStillInsideTheCoalescingWindowOfAClaimedRecipient() {
+        Instant now = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        NotificationOutboxEntry due = entityManager.persist(entry(1L, now.minusSeconds(10)));
+        NotificationOutboxEntry pending = entityManager.persist(entry(1L, now.plusSeconds(20)));
+        entityManager.flush();
+
+        List<NotificationOutboxEntry> batch = notificationOutboxRepository.claimBatch(now, 2);
+
+        assertThat(batch).extracting(NotificationOutboxEntry::getId).containsExactly(due.getId(), pending.getId());
+    }
+
+    @Test
+    void claimBatch_ShouldLeaveEntriesInRetryBackoff() {
+        Instant now = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        NotificationOutboxEntry due = entityManager.persist(entry(1L, now.minusSeconds(10)));
+        NotificationOutboxEntry retrying = entry(1L, now.plusSeconds(30));
+        retrying.setAttempts(1);
+        entityManager.persist(retrying);
+        entityManager.flush();
+
+        List<NotificationOutboxEntry> batch = notificationOutboxRepository.claimBatch(now, 10);
+
+        assertThat(batch).extracting(NotificationOutboxEntry::getId).containsExactly(due.getId());
+    }
+
+    @Test
+    void claimBatch_ShouldReturnAtMostLimitEntries() {
+        Instant now = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        NotificationOutboxEntry due = entityManager.persist(entry(1L, now.minusSeconds(10)));
+        NotificationOutboxEntry pending = entityManager.persist(entry(1L, now.plusSeconds(10)));
+        entityManager.persist(entry(1L, now.plusSeconds(20)));
+        entityManager.flush();
+
+        List<NotificationOutboxEntry> batch = notificationOutboxRepository.claimBatch(now, 2);
+
+        assertThat(batch).extracting(NotificationOutboxEntry::getId).containsExactly(due.getId(), pending.getId());
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void claimBatch_ShouldSkipEntriesClaimedByAnotherTransaction() throws Exception {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        Instant now = Instant.now().plus(365, ChronoUnit.DAYS);
+        List<NotificationOutboxEntry> entries = transactionTemplate.execute(status ->
+                notificationOutboxRepository.saveAll(List.of(entry(1L, now.minusSeconds(2)), entry(2L, now.minusSeconds(1)))));
+        try {
+            CountDownLatch claimed = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            CompletableFuture<List<Long>> firstNode = CompletableFuture.supplyAsync(() -> transactionTemplate.execute(status -> {
+                List<Long> ids = ids(notificationOutboxRepository.claimBatch(now, 1));
+                claimed.countDown();
+                await(release);
+                return ids;
+            }));
+            await(claimed);
+
+            List<Long> secondNode = transactionTemplate.execute(status -> ids(notificationOutboxRepository.claimBatch(now, 10)));
+            release.countDown();
+
+            assertThat(firstNode.get(10, TimeUnit.SECONDS)).containsExactly(entries.get(0).getId());
+            assertThat(secondNode).containsExactly(entries.get(1).getId());
+        } finally {
+            transactionTemplate.executeWithoutResult(status -> notificationOutboxRepository.deleteAllInBatch(entries));
+        }
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void claimBatch_ShouldSkipRecipientsClaimedByAnotherTransaction() throws Exception {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        Instant now = Instant.now().plus(365, ChronoUnit.DAYS);
+        List<NotificationOutboxEntry> entries = transactionTemplate.execute(status ->
+                notificationOutboxRepository.saveAll(List.of(entry(1L, now.minusSeconds(2)), entry(1L, now.minusSeconds(1)))));
+        try {
+            CountDownLatch claimed = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            CompletableFuture<List<Long>> firstNode = CompletableFuture.supplyAsync(() -> transactionTemplate.execute(status -> {
+                List<Long> ids = ids(notificationOutboxRepository.claimBatch(now, 1));
+                claimed.countDown();
+                await(release);
+                return ids;
+            }));
+            await(claimed);
+
+            List<Long> secondNode = transactionTemplate.execute(status -> ids(notificationOutboxRepository.claimBatch(now, 10)));
+            release.countDown();
+
+            assertThat(firstNode.get(10, TimeUnit.SECONDS)).containsExactly(entries.get(0).getId());
+            assertThat(secondNode).isEmpty();
+        } finally {
+            transactionTemplate.executeWithoutResult(status -> notificationOutboxRepository.deleteAllInBatch(entries));
+        }
+    }
+
+    private static NotificationOutboxEntry entry(Long recipientId, Instant availableAt) {
+        return new NotificationOutboxEntry(NotificationType.MEETING_INVITATION, recipientId, 1L, availableAt);
+    }
+
+    private static List<Long> ids(List<NotificationOutboxEntry> entries) {
+        return entries.stream().map(NotificationOutboxEntry::getId).toList();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.minidoodle.repository;
+
+import com.minidoodle.model.Meeting;
+import com.minidoodle.model.TimeSlot;
+import com.minidoodle.model.TimeSlotStatus;
+import com.minidoodle.model.User;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SecondLevelCacheTest {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    @Autowired
+    private TimeSlotRepository timeSlotRepository;
+
+    private TransactionTemplate transactionTemplate;
+    private Statistics statistics;
+    private final List<User> users = new ArrayList<>();
+    private final List<Meeting> meetings = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> {
+            meetingRepository.deleteAllById(meetings.stream().map(Meeting::getId).toList());
+            timeSlotRepository.deleteAllById(meetings.stream().map(meeting -> meeting.getTimeSlot().getId()).toList());
+            userRepository.deleteAllById(users.stream().map(User::getId).toList());
+        });
+    }
+
+    @Test
+    void findById_ShouldServeUserFromSecondLevelCache() {
+        User user = createUser();
+        transactionTemplate.execute(status -> userRepository.findById(user.getId()));
+        statistics.clear();
+
+        User cached = transactionTemplate.execute(status -> userRepository.findById(user.getId()).orElseThrow());
+
+        assertThat(cached.getName()).isEqualTo(user.getName());
+        assertThat(statistics.getSecondLevelCacheHitCount()).isPositive();
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    void save_ShouldReplaceCachedUser() {
+        User user = createUser();
+        transactionTemplate.execute(status -> userRepository.findById(user.getId()));
+
+        transactionTemplate.executeWithoutResult(status ->
+                userRepository.findById(user.getId()).orElseThrow().setName("Renamed"));
+
+        String name = transactionTemplate.execute(status -> userRepository.findById(user.getId()).orElseThrow().getName());
+
+        assertThat(name).isEqualTo("Renamed");
+    }
+
+    @Test
+    void deleteById_ShouldEvictCachedUser() {
+        User user = createUser();
+        transactionTemplate.execute(status -> userRepository.findById(user.getId()));
+
+        transactionTemplate.executeWithoutResult(status -> userRepository.deleteById(user.getId()));
+        users.remove(user);
+
+        Optional<User> deleted = transactionTemplate.execute(status -> userRepository.findById(user.getId()));
+
+        assertThat(deleted).isEmpty();
+    }
+
+    @Test
+    void findById_ShouldServeMeetingAndParticipantsFromSecondLevelCache() {
+        User organizer = createUser();
+        Meeting meeting = createMeeting(organizer, createUser(), createUser());
+        participantIds(meeting);
+        statistics.clear();
+
+        Set<Long> participantIds = participantIds(meeting);
+
+        assertThat(participantIds).hasSize(3);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    void participants_ShouldReflectMembershipChangesAfterCaching() {
+        User organizer = createUser();
+        User participant = createUser();
+        Meeting meeting = createMeeting(organizer);
+        participantIds(meeting);
+
+        transactionTemplate.executeWithoutResult(status -> meetingRepository.findById(meeting.getId()).orElseThrow()
+                .getParticipants().add(userRepository.getReferenceById(participant.getId())));
+        Set<Long> afterAdd = participantIds(meeting);
+        transactionTemplate.executeWithoutResult(status -> meetingRepository.findById(meeting.getId()).orElseThrow()
+                .getParticipants().removeIf(user -> user.getId().equals(organizer.getId())));
+        Set<Long> afterRemove = participantIds(meeting);
+
+        assertThat(afterAdd).containsExactlyInAnyOrder(organizer.getId(), participant.getId());
+        assertThat(afterRemove).containsExactly(participant.getId());
+    }
+
+    private Set<Long> participantIds(Meeting meeting) {
+        return transactionTemplate.execute(status -> meetingRepository.findById(meeting.getId()).orElseThrow()
+                .getParticipants().stream()
+                .map(User::getId)
+                .collect(Collectors.toSet()));
+    }
+
+    private User createUser() {
+        User user = new User();
+        user.setEmail("l2-" + System.nanoTime() + "@example.com");
+        user.setName("Cached User");
+        User saved = transactionTemplate.execute(status -> userRepository.save(user));
+        users.add(saved);
+        return saved;
+    }
+
+    private Meeting createMeeting(User organizer, User... participants) {
+        Instant start = Instant.now().truncatedTo(ChronoUnit.HOURS).plus(400, ChronoUnit.DAYS);
+        Meeting saved = transactionTemplate.execute(status -> {
+            TimeSlot timeSlot = new TimeSlot();
+            timeSlot.setCalendar(organizer.getCalendar());
+            timeSlot.setStartTime(start);
+            timeSlot.setEndTime(start.plus(1, ChronoUnit.HOURS));
+            timeSlot.setStatus(TimeSlotStatus.BOOKED);
+            Meeting meeting = new Meeting();
+            meeting.setTitle("Cached meeting");
+            meeting.setOrganizer(organizer);
+            meeting.setTimeSlot(timeSlotRepository.save(timeSlot));
+            meeting.getParticipants().add(organizer);
+            meeting.getParticipants().addAll(List.of(participants));
+            return meetingRepository.save(meeting);
+        });
+        meetings.add(saved);
+        return saved;
+    }
+}
@@ -0,0 +1,129 @@
+package com.minidoodle.repository;
+
+import com.minidoodle.model.Calendar;
+import com.minidoodle.model.TimeSlot;
+import com.minidoodle.model.TimeSlotStatus;
+import com.minidoodle.model.User;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+@Tag("benchmark")
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class TimeSlotBatchInsertBenchmarkTest {
+
+    private static final int SLOT_COUNT = 10_000;
+    private static final String IDENTITY_INSERT = "INSERT INTO time_slots (calendar_id, start_time, end_time, status, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)";
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void saveAll_WithPooledSequencesAndJdbcBatching_ShouldCutInsertRoundTrips() {
+        InsertRun identity = insertIdentitySlots("identity@example.com");
+        InsertRun unbatched = insertSlots("unbatched@example.com", 1);
+        InsertRun batched = insertSlots("batched@example.com", 50);
+
+        log.info("Inserting {} time slots: IDENTITY {} statements in {} ms, pooled unbatched {} statements in {} ms, pooled batched {} statements in {} ms",
+                SLOT_COUNT, identity.statements(), identity.millis(), unbatched.statements(), unbatched.millis(),
+                batched.statements(), batched.millis());
+
+        assertThat(identity.statements()).isGreaterThanOrEqualTo(SLOT_COUNT);
+        assertThat(unbatched.statements()).isGreaterThanOrEqualTo(SLOT_COUNT);
+        assertThat(batched.statements()).isLessThan(SLOT_COUNT / 10);
+    }
+
+    private InsertRun insertSlots(String email, int batchSize) {
+        Calendar calendar = createCalendar(email);
+        Instant start = Instant.now().truncatedTo(ChronoUnit.HOURS);
+        List<TimeSlot> slots = new ArrayList<>(SLOT_COUNT);
+        for (int i = 0; i < SLOT_COUNT; i++) {
+            TimeSlot slot = new TimeSlot();
+            slot.setCalendar(calendar);
+            slot.setStartTime(slotStart(start, i));
+            slot.setEndTime(slotStart(start, i + 1));
+            slot.setStatus(TimeSlotStatus.AVAILABLE);
+            slots.add(slot);
+        }
+
+        Session session = entityManager.getEntityManager().unwrap(Session.class);
+        Statistics statistics = session.getSessionFactory().unwrap(SessionFactory.class).getStatistics();
+        session.setJdbcBatchSize(batchSize);
+        statistics.clear();
+
+        long startedAt = System.nanoTime();
+        slots.forEach(session::persist);
+        entityManager.flush();
+        long millis = (System.nanoTime() - startedAt) / 1_000_000;
+
+        entityManager.clear();
+        return new InsertRun(statistics.getPrepareStatementCount(), millis);
+    }
+
+    private InsertRun insertIdentitySlots(String email) {
+        Long calendarId = createCalendar(email).getId();
+        Instant start = Instant.now().truncatedTo(ChronoUnit.HOURS);
+        Timestamp now = Timestamp.from(Instant.now());
+
+        long statements = 0;
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < SLOT_COUNT; i++) {
+            Timestamp slotStart = Timestamp.from(slotStart(start, i));
+            Timestamp slotEnd = Timestamp.from(slotStart(start, i + 1));
+            KeyHolder keyHolder = new GeneratedKeyHolder();
+            jdbcTemplate.update(connection -> {
+                PreparedStatement statement = connection.prepareStatement(IDENTITY_INSERT, new String[]{"id"});
+                statement.setLong(1, calendarId);
+                statement.setTimestamp(2, slotStart);
+                statement.setTimestamp(3, slotEnd);
+                statement.setString(4, TimeSlotStatus.AVAILABLE.name());
+                statement.setTimestamp(5, now);
+                statement.setTimestamp(6, now);
+                return statement;
+            }, keyHolder);
+            assertThat(keyHolder.getKey()).isNotNull();
+            statements++;
+        }
+        long millis = (System.nanoTime() - startedAt) / 1_000_000;
+
+        return new InsertRun(statements, millis);
+    }
+
+    private Calendar createCalendar(String email) {
+        User user = new User();
+        user.setEmail(email);
+        user.setName("Benchmark User");
+        entityManager.persist(user);
+        entityManager.flush();
+        return user.getCalendar();
+    }
+
+    private static Instant slotStart(Instant start, int index) {
+        return start.plus(30L * index, ChronoUnit.MINUTES);
+    }
+
+    private record InsertRun(long statements, long millis) {
+    }
+}
@@ -0,0 +1,122 @@
+package com.minidoodle.repository;
+
+import com.minidoodle.model.TimeSlot;
+import com.minidoodle.model.TimeSlotStatus;
+import com.minidoodle.model.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TimeSlotBookingConcurrencyTest {
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TimeSlotRepository timeSlotRepository;
+
+    private TransactionTemplate transactionTemplate;
+    private TransactionTemplate nestedTransactionTemplate;
+    private final List<User> users = new ArrayList<>();
+    private final List<TimeSlot> slots = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        nestedTransactionTemplate = new TransactionTemplate(transactionManager);
+        nestedTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> {
+            timeSlotRepository.deleteAllById(slots.stream().map(TimeSlot::getId).toList());
+            userRepository.deleteAllById(users.stream().map(User::getId).toList());
+        });
+    }
+
+    @Test
+    void bookAvailableTimeSlots_WhenAnotherTransactionBookedASlot_ShouldOnlyBookTheRemainingOnes() throws Exception {
+        TimeSlot first = createAvailableSlot();
+        TimeSlot shared = createAvailableSlot();
+        TimeSlot last = createAvailableSlot();
+
+        CompletableFuture<Integer> competing = transactionTemplate.execute(status -> {
+            int booked = timeSlotRepository.bookAvailableTimeSlots(Set.of(first.getId(), shared.getId()), TimeSlotStatus.BOOKED, null, Instant.now());
+            assertThat(booked).isEqualTo(2);
+            return CompletableFuture.supplyAsync(() -> transactionTemplate.execute(inner ->
+                    timeSlotRepository.bookAvailableTimeSlots(Set.of(shared.getId(), last.getId()), TimeSlotStatus.BOOKED, null, Instant.now())));
+        });
+
+        assertThat(competing.get(10, TimeUnit.SECONDS)).isEqualTo(1);
+    }
+
+    @Test
+    void bookAvailableTimeSlots_ShouldIncrementVersion() {
+        TimeSlot slot = createAvailableSlot();
+
+        transactionTemplate.executeWithoutResult(status ->
+                timeSlotRepository.bookAvailableTimeSlots(Set.of(slot.getId()), TimeSlotStatus.BOOKED, null, Instant.now()));
+
+        TimeSlot booked = transactionTemplate.execute(status -> timeSlotRepository.findById(slot.getId()).orElseThrow());
+        assertThat(booked.getStatus()).isEqualTo(TimeSlotStatus.BOOKED);
+        assertThat(booked.getVersion()).isEqualTo(slot.getVersion() + 1);
+    }
+
+    @Test
+    void save_WhenSlotWasBookedSinceItWasRead_ShouldFailWithOptimisticLockingFailure() {
+        TimeSlot slot = createAvailableSlot();
+
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status -> {
+            TimeSlot stale = timeSlotRepository.findById(slot.getId()).orElseThrow();
+            nestedTransactionTemplate.executeWithoutResult(nested ->
+                    timeSlotRepository.bookAvailableTimeSlots(Set.of(slot.getId()), TimeSlotStatus.BOOKED, null, Instant.now()));
+            stale.setStatus(TimeSlotStatus.BUSY);
+        })).isInstanceOf(ObjectOptimisticLockingFailureException.class);
+
+        TimeSlot current = transactionTemplate.execute(status -> timeSlotRepository.findById(slot.getId()).orElseThrow());
+        assertThat(current.getStatus()).isEqualTo(TimeSlotStatus.BOOKED);
+    }
+
+    private TimeSlot createAvailableSlot() {
+        User user = new User();
+        user.setEmail("booking-" + System.nanoTime() + "@example.com");
+        user.setName("Booking User");
+        Instant start = Instant.now().truncatedTo(ChronoUnit.HOURS).plus(500, ChronoUnit.DAYS);
+        TimeSlot saved = transactionTemplate.execute(status -> {
+            users.add(userRepository.save(user));
+            TimeSlot slot = new TimeSlot();
+            slot.setCalendar(user.getCalendar());
+            slot.setStartTime(start);
+            slot.setEndTime(start.plus(1, ChronoUnit.HOURS));
+            slot.setStatus(TimeSlotStatus.AVAILABLE);
+            return timeSlotRepository.save(slot);
+        });
+        slots.add(saved);
+        return saved;
+    }
+}
@@ -1,20 +1,30 @@
 package com.minidoodle.repository;
 
+import com.minidoodle.dto.CalendarFeedEntry;
+import com.minidoodle.dto.FreeBusyEntry;
+import com.minidoodle.dto.TimeSlotDTO;
 import com.minidoodle.model.Calendar;
+import com.minidoodle.model.Meeting;
 import com.minidoodle.model.TimeSlot;
 import com.minidoodle.model.TimeSlotStatus;
 import com.minidoodle.model.User;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.stream.Stream;
 
+import static com.minidoodle.mapper.TimeSlotMapper.toLocalDateTime;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 
 @DataJpaTest
 class TimeSlotRepositoryTest {
@@ -103,8 +113,8 @@ class TimeSlotRepositoryTest {
 
     @Test
     void findAvailableTimeSlotsByUserIdAndTimeRange_ShouldFindMultipleOverlappingSlots() {
-        TimeSlot slot1 = createTimeSlot(now.minus(30, ChronoUnit.MINUTES), oneHourLater, TimeSlotStatus.AVAILABLE);
-        TimeSlot slot2 = createTimeSlot(now, twoHoursLater, TimeSlotStatus.AVAILABLE);
+        TimeSlot slot1 = createTimeSlot(now.minus(30, ChronoUnit.MINUTES), now.plus(30, ChronoUnit.MINUTES), TimeSlotStatus.AVAILABLE);
+        TimeSlot slot2 = createTimeSlot(now.plus(30, ChronoUnit.MINUTES), oneHourLater, TimeSlotStatus.AVAILABLE);
         TimeSlot slot3 = createTimeSlot(oneHourLater, threeHoursLater, TimeSlotStatus.AVAILABLE);
         entityManager.persist(slot1);
         entityManager.persist(slot2);
@@ -116,7 +126,131 @@ class TimeSlotRepositoryTest {
 
         assertThat(result).hasSize(3);
         assertThat(result).extracting(TimeSlot::getId)
-                .containsExactlyInAnyOrder(slot1.getId(), slot2.getId(), slot3.getId());
+                .containsExactly(slot1.getId(), slot2.getId(), slot3.getId());
+    }
+
+    @Test
+    void findAvailableSlotsInTimeRange_ShouldOnlyFindContainedSlots() {
+        TimeSlot contained = createTimeSlot(oneHourLater, twoHoursLater, TimeSlotStatus.AVAILABLE);
+        TimeSlot overlapping = createTimeSlot(twoHoursLater, threeHoursLater, TimeSlotStatus.AVAILABLE);
+        entityManager.persist(contained);
+        entityManager.persist(overlapping);
+        entityManager.flush();
+
+        List<TimeSlotDTO> result = timeSlotRepository.findAvailableSlotsInTimeRange(
+                calendar.getId(), now, twoHoursLater.plus(30, ChronoUnit.MINUTES));
+
+        assertThat(result).extracting(TimeSlotDTO::getId).containsExactly(contained.getId());
+        assertThat(result.getFirst().getUserId()).isEqualTo(user.getId());
+        assertThat(result.getFirst().getStartTime()).isEqualTo(toLocalDateTime(oneHourLater));
+    }
+
+    @Test
+    void saveTimeSlot_WhenOverlappingExistingSlotInSameCalendar_ShouldBeRejected() {
+        entityManager.persist(createTimeSlot(now, twoHoursLater, TimeSlotStatus.AVAILABLE));
+        entityManager.flush();
+
+        TimeSlot overlapping = createTimeSlot(oneHourLater, threeHoursLater, TimeSlotStatus.AVAILABLE);
+
+        assertThatThrownBy(() -> {
+            entityManager.persist(overlapping);
+            entityManager.flush();
+        }).isInstanceOf(ConstraintViolationException.class);
+    }
+
+    @Test
+    void findPageByUserIdAfter_ShouldContinueAfterCursorInStartTimeOrder() {
+        TimeSlot first = createTimeSlot(now, oneHourLater, TimeSlotStatus.AVAILABLE);
+        TimeSlot second = createTimeSlot(oneHourLater, twoHoursLater, TimeSlotStatus.BUSY);
+        TimeSlot third = createTimeSlot(twoHoursLater, threeHoursLater, TimeSlotStatus.AVAILABLE);
+        entityManager.persist(third);
+        entityManager.persist(first);
+        entityManager.persist(second);
+        entityManager.flush();
+
+        List<TimeSlot> firstPage = timeSlotRepository.findPageByUserId(user.getId(), Limit.of(2));
+        List<TimeSlot> nextPage = timeSlotRepository.findPageByUserIdAfter(
+                user.getId(), firstPage.getLast().getStartTime(), firstPage.getLast().getId(), Limit.of(2));
+
+        assertThat(firstPage).containsExactly(first, second);
+        assertThat(nextPage).containsExactly(third);
+    }
+
+    @Test
+    void findBookedTimeSlotsByMeetingIdAndUserIds_ShouldOnlyFindSlotsBookedByThatMeeting() {
+        User organizer = new User();
+        organizer.setEmail("organizer@example.com");
+        organizer.setName("Organizer");
+        entityManager.persist(organizer);
+        Meeting first = persistMeeting(organizer, now, oneHourLater);
+        Meeting second = persistMeeting(organizer, oneHourLater, threeHoursLater);
+        TimeSlot bookedByFirst = createTimeSlot(now, oneHourLater, TimeSlotStatus.BUSY);
+        bookedByFirst.setBookedMeeting(first);
+        TimeSlot bookedBySecond = createTimeSlot(oneHourLater, twoHoursLater, TimeSlotStatus.BOOKED);
+        bookedBySecond.setBookedMeeting(second);
+        entityManager.persist(bookedByFirst);
+        entityManager.persist(bookedBySecond);
+        entityManager.persist(createTimeSlot(twoHoursLater, threeHoursLater, TimeSlotStatus.BUSY));
+        entityManager.flush();
+
+        assertThat(timeSlotRepository.findBookedTimeSlotsByMeetingIdAndUserIds(second.getId(), List.of(user.getId())))
+                .extracting(TimeSlot::getId).containsExactly(bookedBySecond.getId());
+        assertThat(timeSlotRepository.findBookedTimeSlotsByMeetingIdAndUserIds(first.getId(), List.of(user.getId())))
+                .extracting(TimeSlot::getId).containsExactly(bookedByFirst.getId());
+    }
+
+    @Test
+    void streamBusyEntriesByUserIds_ShouldStreamBusySlotsOverlappingTheWindowByUserAndStartTime() {
+        User other = new User();
+        other.setEmail("other@example.com");
+        other.setName("Other User");
+        entityManager.persist(other);
+        TimeSlot otherSlot = createTimeSlot(now, oneHourLater, TimeSlotStatus.BOOKED);
+        otherSlot.setCalendar(other.getCalendar());
+        entityManager.persist(otherSlot);
+        entityManager.persist(createTimeSlot(twoHoursLater, threeHoursLater, TimeSlotStatus.BUSY));
+        entityManager.persist(createTimeSlot(now, oneHourLater, TimeSlotStatus.BOOKED));
+        entityManager.persist(createTimeSlot(oneHourLater, twoHoursLater, TimeSlotStatus.AVAILABLE));
+        entityManager.persist(createTimeSlot(threeHoursLater, threeHoursLater.plus(1, ChronoUnit.HOURS), TimeSlotStatus.BUSY));
+        entityManager.flush();
+
+        try (Stream<FreeBusyEntry> entries = timeSlotRepository.streamBusyEntriesByUserIds(
+                List.of(user.getId(), other.getId()), now.plus(30, ChronoUnit.MINUTES), threeHoursLater)) {
+            assertThat(entries.toList())
+                    .extracting(FreeBusyEntry::getUserId, FreeBusyEntry::getStartTime)
+                    .containsExactly(
+                            tuple(user.getId(), now),
+                            tuple(user.getId(), twoHoursLater),
+                            tuple(other.getId(), now));
+        }
+    }
+
+    @Test
+    void streamFeedEntriesByUserId_ShouldStreamSlotsInStartTimeOrder() {
+        entityManager.persist(createTimeSlot(oneHourLater, twoHoursLater, TimeSlotStatus.BUSY));
+        entityManager.persist(createTimeSlot(now, oneHourLater, TimeSlotStatus.AVAILABLE));
+        entityManager.flush();
+
+        try (Stream<CalendarFeedEntry> entries = timeSlotRepository.streamFeedEntriesByUserId(user.getId())) {
+            assertThat(entries.toList())
+                    .extracting(CalendarFeedEntry::getStartTime, CalendarFeedEntry::getStatus, CalendarFeedEntry::getMeetingTitle)
+                    .containsExactly(
+                            tuple(now, TimeSlotStatus.AVAILABLE, null),
+                            tuple(oneHourLater, TimeSlotStatus.BUSY, null));
+        }
+    }
+
+    private Meeting persistMeeting(User organizer, Instant startTime, Instant endTime) {
+        TimeSlot timeSlot = createTimeSlot(startTime, endTime, TimeSlotStatus.BOOKED);
+        timeSlot.setCalendar(organizer.getCalendar());
+        entityManager.persist(timeSlot);
+        Meeting meeting = new Meeting();
+        meeting.setTitle("Meeting");
+        meeting.setOrganizer(organizer);
+        meeting.setTimeSlot(timeSlot);
+        meeting.getParticipants().add(organizer);
+        meeting.getParticipants().add(user);
+        return entityManager.persist(meeting);
     }
 
     private TimeSlot createTimeSlot(Instant startTime, Instant endTime, TimeSlotStatus status) {
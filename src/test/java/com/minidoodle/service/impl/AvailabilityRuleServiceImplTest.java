@@ -0,0 +1,145 @@
+package com.minidoodle.service.impl;
+
+import com.minidoodle.cache.TimeSlotIndex;
+import com.minidoodle.dto.TimeSlotDTO;
+import com.minidoodle.exception.TimeSlotException;
+import com.minidoodle.helper.TestDataHelper;
+import com.minidoodle.model.AvailabilityRule;
+import com.minidoodle.model.Calendar;
+import com.minidoodle.model.TimeSlot;
+import com.minidoodle.model.TimeSlotStatus;
+import com.minidoodle.model.User;
+import com.minidoodle.repository.AvailabilityRuleRepository;
+import com.minidoodle.repository.TimeSlotRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+
+import static com.minidoodle.mapper.TimeSlotMapper.toInstant;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest
+class AvailabilityRuleServiceImplTest {
+
+    @MockBean
+    private AvailabilityRuleRepository availabilityRuleRepository;
+
+    @MockBean
+    private TimeSlotRepository timeSlotRepository;
+
+    @MockBean
+    private TimeSlotIndex timeSlotIndex;
+
+    @Autowired
+    private AvailabilityRuleServiceImpl availabilityRuleService;
+
+    private LocalDate monday;
+    private AvailabilityRule rule;
+
+    @BeforeEach
+    void setUp() {
+        User user = TestDataHelper.createDefaultTestUser();
+        Calendar calendar = TestDataHelper.createDefaultTestCalendar();
+        calendar.setUser(user);
+        user.setCalendar(calendar);
+
+        monday = LocalDate.now().plusWeeks(1).with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        rule = new AvailabilityRule();
+        rule.setId(7L);
+        rule.setCalendar(calendar);
+        rule.setDaysOfWeek(EnumSet.of(DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY));
+        rule.setStartTimeOfDay(LocalTime.of(9, 0));
+        rule.setDurationMinutes(60);
+        rule.setStartsOn(monday);
+        rule.setOccurrenceCount(3);
+    }
+
+    @Test
+    void expandAvailability_ShouldOnlyExpandOccurrencesInsideWindowAndWithinCount() {
+        when(availabilityRuleRepository.findByCalendarId(1L)).thenReturn(List.of(rule));
+
+        List<TimeSlotDTO> result = availabilityRuleService.expandAvailability(1L, 1L, monday.atStartOfDay(), monday.plusWeeks(3).atStartOfDay());
+
+        assertThat(result).extracting(TimeSlotDTO::getStartTime).containsExactly(
+                monday.atTime(9, 0), monday.plusDays(2).atTime(9, 0), monday.plusWeeks(1).atTime(9, 0));
+        assertThat(result).allMatch(slot -> slot.getId() == null && rule.getId().equals(slot.getAvailabilityRuleId()));
+    }
+
+    @Test
+    void expandAvailability_ShouldSkipExceptionsAndStoredSlots() {
+        rule.getExceptionDates().add(monday);
+        LocalDateTime wednesday = monday.plusDays(2).atTime(9, 0);
+        when(availabilityRuleRepository.findByCalendarId(1L)).thenReturn(List.of(rule));
+        when(timeSlotIndex.intersectsAny(1L, toInstant(wednesday), toInstant(wednesday.plusHours(1)))).thenReturn(true);
+
+        List<TimeSlotDTO> result = availabilityRuleService.expandAvailability(1L, 1L, monday.atStartOfDay(), monday.plusWeeks(3).atStartOfDay());
+
+        assertThat(result).extracting(TimeSlotDTO::getStartTime).containsExactly(monday.plusWeeks(1).atTime(9, 0));
+    }
+
+    @Test
+    void materializeOccurrence_ShouldStoreSlotAndExcludeDateFromRule() {
+        LocalDateTime occurrence = monday.atTime(9, 0);
+        when(availabilityRuleRepository.findById(7L)).thenReturn(Optional.of(rule));
+        when(timeSlotRepository.save(any(TimeSlot.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        TimeSlotDTO result = availabilityRuleService.materializeOccurrence(7L, occurrence);
+
+        assertThat(result.getStartTime()).isEqualTo(occurrence);
+        assertThat(result.getEndTime()).isEqualTo(occurrence.plusHours(1));
+        assertThat(rule.getExceptionDates()).containsExactly(monday);
+        verify(timeSlotRepository).save(argThat(slot -> slot.getStatus() == TimeSlotStatus.AVAILABLE && slot.isValid()));
+    }
+
+    @Test
+    void materializeOccurrence_WhenNotAnOccurrence_ShouldThrowException() {
+        when(availabilityRuleRepository.findById(7L)).thenReturn(Optional.of(rule));
+
+        assertThatThrownBy(() -> availabilityRuleService.materializeOccurrence(7L, monday.plusDays(1).atTime(9, 0)))
+                .isInstanceOf(TimeSlotException.class);
+
+        verify(timeSlotRepository, never()).save(any());
+    }
+
+    @Test
+    void materializeOverlappingOccurrence_ShouldMaterializeFirstOverlappingOccurrence() {
+        LocalDateTime occurrence = monday.plusDays(2).atTime(9, 0);
+        when(availabilityRuleRepository.findByCalendarUserId(eq(1L))).thenReturn(List.of(rule));
+        when(timeSlotRepository.save(any(TimeSlot.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        Optional<TimeSlot> result = availabilityRuleService.materializeOverlappingOccurrence(
+                1L, toInstant(occurrence.plusMinutes(15)), toInstant(occurrence.plusMinutes(45)));
+
+        assertThat(result).isPresent();
+        assertThat(result.get().getStartTime()).isEqualTo(toInstant(occurrence));
+    }
+
+    @Test
+    void materializeOverlappingOccurrence_WhenOccurrenceHitsAStoredSlot_ShouldNotMaterializeIt() {
+        LocalDateTime occurrence = monday.plusDays(2).atTime(9, 0);
+        when(availabilityRuleRepository.findByCalendarUserId(eq(1L))).thenReturn(List.of(rule));
+        when(timeSlotIndex.intersectsAny(1L, toInstant(occurrence), toInstant(occurrence.plusHours(1)))).thenReturn(true);
+
+        Optional<TimeSlot> result = availabilityRuleService.materializeOverlappingOccurrence(
+                1L, toInstant(occurrence.plusMinutes(15)), toInstant(occurrence.plusMinutes(45)));
+
+        assertThat(result).isEmpty();
+        assertThat(rule.getExceptionDates()).isEmpty();
+        verify(timeSlotRepository, never()).save(any());
+    }
+}
@@ -0,0 +1,76 @@
+package com.minidoodle.service.impl;
+
+import com.minidoodle.dto.CalendarFeedEntry;
+import com.minidoodle.model.TimeSlotStatus;
+import com.minidoodle.repository.CalendarRepository;
+import com.minidoodle.repository.TimeSlotRepository;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest
+class CalendarFeedServiceImplTest {
+
+    @MockBean
+    private TimeSlotRepository timeSlotRepository;
+
+    @MockBean
+    private CalendarRepository calendarRepository;
+
+    @Autowired
+    private CalendarFeedServiceImpl calendarFeedService;
+
+    @Test
+    void writeCalendar_ShouldWriteOneEventPerTimeSlot() throws Exception {
+        Instant start = Instant.parse("2030-01-07T09:00:00Z");
+        Stream<CalendarFeedEntry> entries = Stream.of(
+                new CalendarFeedEntry(1L, start, start.plusSeconds(3600), TimeSlotStatus.AVAILABLE, start, null, null),
+                new CalendarFeedEntry(2L, start.plusSeconds(3600), start.plusSeconds(7200), TimeSlotStatus.BOOKED, start,
+                        "Planning; Q1, Q2", "line one\nline two"));
+        when(timeSlotRepository.streamFeedEntriesByUserId(1L)).thenReturn(entries);
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        calendarFeedService.writeCalendar(1L, output);
+        String ics = output.toString(StandardCharsets.UTF_8);
+
+        assertThat(ics).startsWith("BEGIN:VCALENDAR\r\n").endsWith("END:VCALENDAR\r\n");
+        assertThat(ics.split("BEGIN:VEVENT", -1)).hasSize(3);
+        assertThat(ics).contains("UID:timeslot-1@minidoodle\r\n", "DTSTART:20300107T090000Z\r\n", "SUMMARY:Available\r\n", "TRANSP:TRANSPARENT\r\n");
+        assertThat(ics).contains("SUMMARY:Planning\\; Q1\\, Q2\r\n", "DESCRIPTION:line one\\nline two\r\n", "TRANSP:OPAQUE\r\n");
+    }
+
+    @Test
+    void writeCalendar_ShouldFoldLongLines() throws Exception {
+        Instant start = Instant.parse("2030-01-07T09:00:00Z");
+        when(timeSlotRepository.streamFeedEntriesByUserId(1L)).thenReturn(Stream.of(
+                new CalendarFeedEntry(1L, start, start.plusSeconds(3600), TimeSlotStatus.BOOKED, start, "x".repeat(200), null)));
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        calendarFeedService.writeCalendar(1L, output);
+
+        assertThat(Arrays.stream(output.toString(StandardCharsets.UTF_8).split("\r\n")))
+                .allMatch(line -> line.length() <= 75);
+        assertThat(output.toString(StandardCharsets.UTF_8).replace("\r\n ", "")).contains("SUMMARY:" + "x".repeat(200) + "\r\n");
+    }
+
+    @Test
+    void getLastModified_WhenUserHasNoCalendar_ShouldThrowException() {
+        when(calendarRepository.findUpdatedAtByUserId(1L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> calendarFeedService.getLastModified(1L))
+                .isInstanceOf(EntityNotFoundException.class);
+    }
+}
@@ -0,0 +1,175 @@
+package com.minidoodle.service.impl;
+
+import com.minidoodle.repository.TimeSlotRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(properties = {
+        "minidoodle.outbox.dispatcher.enabled=false",
+        "minidoodle.calendar-mailbox.enabled=true",
+        "minidoodle.calendar-mailbox.capacity=4",
+        "minidoodle.calendar-mailbox.offer-timeout=200ms",
+        "minidoodle.calendar-mailbox.timeout=2s"
+})
+class CalendarMailboxServiceImplTest {
+    private static final Long CALENDAR_ID = 7L;
+
+    @MockBean
+    private TimeSlotRepository timeSlotRepository;
+
+    @Autowired
+    private CalendarMailboxServiceImpl calendarMailboxService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor();
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final AtomicInteger running = new AtomicInteger();
+    private final AtomicInteger maxRunning = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        callers.close();
+    }
+
+    @Test
+    void submitForUser_ShouldApplyQueuedChangesOneAtATimeInOneTransaction() throws Exception {
+        CompletableFuture<Object> blocker = submitAsync(this::blockUntilReleased);
+        assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+
+        List<CompletableFuture<Object>> queued = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            queued.add(submitAsync(this::currentTransaction));
+        }
+        await().atMost(Duration.ofSeconds(10)).until(() -> calendarMailboxService.pendingMutations(CALENDAR_ID) == 4);
+        release.countDown();
+
+        Object blockerTransaction = blocker.get(10, TimeUnit.SECONDS);
+        List<Object> transactions = new ArrayList<>();
+        for (CompletableFuture<Object> future : queued) {
+            transactions.add(future.get(10, TimeUnit.SECONDS));
+        }
+        assertThat(maxRunning).hasValue(1);
+        assertThat(transactions).doesNotContainNull().containsOnly(transactions.getFirst());
+        assertThat(transactions.getFirst()).isNotSameAs(blockerTransaction);
+    }
+
+    @Test
+    void submitForUser_WhenOneQueuedChangeFails_ShouldFailOnlyThatCaller() throws Exception {
+        CompletableFuture<Object> blocker = submitAsync(this::blockUntilReleased);
+        assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<Object> first = submitAsync(() -> "first");
+        CompletableFuture<Object> failing = submitAsync(() -> {
+            throw new IllegalStateException("No available time slot");
+        });
+        CompletableFuture<Object> last = submitAsync(() -> "last");
+        await().atMost(Duration.ofSeconds(10)).until(() -> calendarMailboxService.pendingMutations(CALENDAR_ID) == 3);
+        release.countDown();
+
+        blocker.get(10, TimeUnit.SECONDS);
+        assertThat(first.get(10, TimeUnit.SECONDS)).isEqualTo("first");
+        assertThat(last.get(10, TimeUnit.SECONDS)).isEqualTo("last");
+        assertThatThrownBy(() -> failing.get(10, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(IllegalStateException.class)
+                .hasRootCauseMessage("No available time slot");
+    }
+
+    @Test
+    void submitForUser_WhenMailboxIsFull_ShouldRejectChange() throws Exception {
+        submitAsync(this::blockUntilReleased);
+        assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+        for (int i = 0; i < 4; i++) {
+            submitAsync(() -> "queued");
+        }
+        await().atMost(Duration.ofSeconds(10)).until(() -> calendarMailboxService.pendingMutations(CALENDAR_ID) == 4);
+
+        assertThatThrownBy(() -> calendarMailboxService.submitForUser(CALENDAR_ID, () -> "rejected"))
+                .isInstanceOf(RejectedExecutionException.class);
+    }
+
+    @Test
+    void submitForUser_WhenQueueIsDrained_ShouldDropTheMailbox() throws Exception {
+        assertThat(submitAsync(() -> "applied").get(10, TimeUnit.SECONDS)).isEqualTo("applied");
+
+        await().atMost(Duration.ofSeconds(10)).until(() -> calendarMailboxService.activeMailboxes() == 0);
+    }
+
+    @Test
+    void submitForUser_WhenChangeIsNotStartedWithinTimeout_ShouldRejectItAndNeverApplyIt() throws Exception {
+        CompletableFuture<Object> blocker = submitAsync(this::blockUntilReleased);
+        assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+        AtomicBoolean applied = new AtomicBoolean();
+
+        assertThatThrownBy(() -> calendarMailboxService.submitForUser(CALENDAR_ID, () -> applied.getAndSet(true)))
+                .isInstanceOf(RejectedExecutionException.class);
+        release.countDown();
+
+        blocker.get(10, TimeUnit.SECONDS);
+        await().atMost(Duration.ofSeconds(10)).until(() -> calendarMailboxService.activeMailboxes() == 0);
+        assertThat(applied).isFalse();
+    }
+
+    @Test
+    void submitForTimeSlot_WhenTimeSlotDoesNotExist_ShouldRunChangeOnCallerThread() {
+        when(timeSlotRepository.findCalendarIdById(99L)).thenReturn(Optional.empty());
+        Thread caller = Thread.currentThread();
+
+        Thread applier = calendarMailboxService.submitForTimeSlot(99L, Thread::currentThread);
+
+        assertThat(applier).isSameAs(caller);
+    }
+
+    private CompletableFuture<Object> submitAsync(Supplier<Object> mutation) {
+        return CompletableFuture.supplyAsync(() -> calendarMailboxService.submitForUser(CALENDAR_ID, () -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                return mutation.get();
+            } finally {
+                running.decrementAndGet();
+            }
+        }), callers);
+    }
+
+    private Object blockUntilReleased() {
+        started.countDown();
+        try {
+            assertThat(release.await(10, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+        return currentTransaction();
+    }
+
+    private Object currentTransaction() {
+        return TransactionSynchronizationManager.getResource(entityManagerFactory);
+    }
+}
@@ -0,0 +1,88 @@
+package com.minidoodle.service.impl;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.minidoodle.dto.FreeBusyEntry;
+import com.minidoodle.dto.FreeBusyRequestDTO;
+import com.minidoodle.repository.TimeSlotRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static com.minidoodle.mapper.TimeSlotMapper.toInstant;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest
+class FreeBusyServiceImplTest {
+    private static final LocalDateTime MONDAY = LocalDateTime.of(2030, 1, 7, 0, 0);
+
+    @MockBean
+    private TimeSlotRepository timeSlotRepository;
+
+    @Autowired
+    private FreeBusyServiceImpl freeBusyService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private Validator validator;
+
+    @Test
+    void writeFreeBusy_ShouldCoalesceAndClipBusyIntervalsPerRequestedUser() throws Exception {
+        FreeBusyRequestDTO request = request(Set.of(3L, 1L, 2L), hour(9), hour(17));
+        when(timeSlotRepository.streamBusyEntriesByUserIds(request.getUserIds(), toInstant(hour(9)), toInstant(hour(17))))
+                .thenReturn(Stream.of(
+                        entry(1L, hour(8), hour(9.5)),
+                        entry(1L, hour(9.5), hour(10)),
+                        entry(1L, hour(9.75), hour(10.5)),
+                        entry(1L, hour(11), hour(12)),
+                        entry(2L, hour(17), hour(18)),
+                        entry(3L, hour(16), hour(18))));
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        freeBusyService.writeFreeBusy(request, output);
+        JsonNode users = objectMapper.readTree(output.toByteArray());
+
+        assertThat(users).extracting(user -> user.get("userId").asLong()).containsExactly(1L, 2L, 3L);
+        assertThat(users.get(0).get("busy").toString()).isEqualTo(
+                "[{\"startTime\":\"2030-01-07T09:00:00\",\"endTime\":\"2030-01-07T10:30:00\"}," +
+                "{\"startTime\":\"2030-01-07T11:00:00\",\"endTime\":\"2030-01-07T12:00:00\"}]");
+        assertThat(users.get(1).get("busy")).isEmpty();
+        assertThat(users.get(2).get("busy").toString()).isEqualTo(
+                "[{\"startTime\":\"2030-01-07T16:00:00\",\"endTime\":\"2030-01-07T17:00:00\"}]");
+    }
+
+    @Test
+    void freeBusyRequest_WhenWindowIsEmpty_ShouldBeInvalid() {
+        assertThat(validator.validate(request(Set.of(1L), hour(10), hour(10))))
+                .extracting(ConstraintViolation::getMessage)
+                .containsExactly("Start time must be before end time");
+        assertThat(validator.validate(request(Set.of(1L), hour(9), hour(10)))).isEmpty();
+    }
+
+    private static FreeBusyRequestDTO request(Set<Long> userIds, LocalDateTime startTime, LocalDateTime endTime) {
+        FreeBusyRequestDTO request = new FreeBusyRequestDTO();
+        request.setUserIds(userIds);
+        request.setStartTime(startTime);
+        request.setEndTime(endTime);
+        return request;
+    }
+
+    private static FreeBusyEntry entry(Long userId, LocalDateTime startTime, LocalDateTime endTime) {
+        return new FreeBusyEntry(userId, toInstant(startTime), toInstant(endTime));
+    }
+
+    private static LocalDateTime hour(double hours) {
+        return MONDAY.plusMinutes(Math.round(hours * 60));
+    }
+}
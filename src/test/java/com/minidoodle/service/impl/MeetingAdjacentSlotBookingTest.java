@@ -0,0 +1,131 @@
+package com.minidoodle.service.impl;
+
+import com.minidoodle.cache.TimeSlotIndex;
+import com.minidoodle.dto.MeetingDTO;
+import com.minidoodle.model.TimeSlot;
+import com.minidoodle.model.TimeSlotStatus;
+import com.minidoodle.model.User;
+import com.minidoodle.repository.TimeSlotRepository;
+import com.minidoodle.repository.UserRepository;
+import com.minidoodle.service.MeetingService;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "minidoodle.outbox.dispatcher.enabled=false")
+class MeetingAdjacentSlotBookingTest {
+    private static final Instant START = Instant.now().truncatedTo(ChronoUnit.DAYS).plus(2, ChronoUnit.DAYS).plus(9, ChronoUnit.HOURS);
+
+    @Autowired
+    private MeetingService meetingService;
+
+    @Autowired
+    private TimeSlotIndex timeSlotIndex;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TimeSlotRepository timeSlotRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final String emailPrefix = "adjacent-" + System.nanoTime();
+    private TransactionTemplate transactionTemplate;
+    private User organizer;
+    private User participant;
+    private TimeSlot earlierSlot;
+    private TimeSlot laterSlot;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        organizer = createUser("organizer");
+        participant = createUser("participant");
+        earlierSlot = createSlot(participant, START, START.plus(1, ChronoUnit.HOURS));
+        laterSlot = createSlot(participant, START.plus(1, ChronoUnit.HOURS), START.plus(2, ChronoUnit.HOURS));
+    }
+
+    @AfterEach
+    void tearDown() {
+        String users = "SELECT id FROM users WHERE email LIKE '" + emailPrefix + "-%'";
+        jdbcTemplate.update("DELETE FROM notification_outbox WHERE recipient_id IN (" + users + ")");
+        jdbcTemplate.update("DELETE FROM meeting_participants WHERE meeting_id IN (SELECT id FROM meetings WHERE organizer_id IN (" + users + "))");
+        jdbcTemplate.update("DELETE FROM meetings WHERE organizer_id IN (" + users + ")");
+        jdbcTemplate.update("DELETE FROM time_slots WHERE calendar_id IN (" + users + ")");
+        jdbcTemplate.update("DELETE FROM calendars WHERE id IN (" + users + ")");
+        jdbcTemplate.update("DELETE FROM users WHERE email LIKE '" + emailPrefix + "-%'");
+        timeSlotIndex.evict(organizer.getId());
+        timeSlotIndex.evict(participant.getId());
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    void createMeeting_WhenParticipantIsNotIndexed_ShouldBookTheSlotCoveringTheMeeting() {
+        timeSlotIndex.evict(participant.getId());
+
+        createLaterMeeting();
+
+        assertThat(status(earlierSlot)).isEqualTo(TimeSlotStatus.AVAILABLE);
+        assertThat(status(laterSlot)).isEqualTo(TimeSlotStatus.BOOKED);
+    }
+
+    @Test
+    void createMeeting_WhenParticipantIsIndexed_ShouldBookTheSlotCoveringTheMeeting() {
+        assertThat(timeSlotIndex.intersectsAny(participant.getId(), START, START.plus(2, ChronoUnit.HOURS))).isTrue();
+
+        createLaterMeeting();
+
+        assertThat(status(earlierSlot)).isEqualTo(TimeSlotStatus.AVAILABLE);
+        assertThat(status(laterSlot)).isEqualTo(TimeSlotStatus.BOOKED);
+    }
+
+    private void createLaterMeeting() {
+        MeetingDTO meetingDTO = new MeetingDTO();
+        meetingDTO.setTitle("Adjacent");
+        meetingDTO.setOrganizerId(organizer.getId());
+        meetingDTO.setTimeSlotId(createSlot(organizer, START.plus(1, ChronoUnit.HOURS), START.plus(2, ChronoUnit.HOURS)).getId());
+        meetingDTO.setParticipantIds(Set.of(participant.getId()));
+
+        assertThat(meetingService.createMeeting(meetingDTO).getUnavailableParticipantIds()).isEmpty();
+    }
+
+    private User createUser(String name) {
+        User user = new User();
+        user.setEmail(emailPrefix + "-" + name + "@example.com");
+        user.setName(name);
+        return transactionTemplate.execute(status -> userRepository.save(user));
+    }
+
+    private TimeSlot createSlot(User user, Instant startTime, Instant endTime) {
+        TimeSlot slot = new TimeSlot();
+        slot.setCalendar(user.getCalendar());
+        slot.setStartTime(startTime);
+        slot.setEndTime(endTime);
+        slot.setStatus(TimeSlotStatus.AVAILABLE);
+        return transactionTemplate.execute(status -> timeSlotRepository.save(slot));
+    }
+
+    private TimeSlotStatus status(TimeSlot slot) {
+        return TimeSlotStatus.valueOf(jdbcTemplate.queryForObject("SELECT status FROM time_slots WHERE id = ?", String.class, slot.getId()));
+    }
+}
@@ -1,13 +1,18 @@
 package com.minidoodle.service.impl;
 
+import com.minidoodle.cache.TimeSlotIndex;
+import com.minidoodle.cache.TimeSlotInterval;
 import com.minidoodle.dto.MeetingDTO;
+import com.minidoodle.dto.PageDTO;
 import com.minidoodle.helper.TestDataHelper;
 import com.minidoodle.mapper.MeetingMapper;
 import com.minidoodle.model.*;
 import com.minidoodle.repository.MeetingRepository;
 import com.minidoodle.repository.TimeSlotRepository;
 import com.minidoodle.repository.UserRepository;
-import com.minidoodle.service.NotificationService;
+import com.minidoodle.service.AvailabilityRuleService;
+import com.minidoodle.service.NotificationOutboxService;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -15,11 +20,15 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
 
+import java.time.Instant;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -39,11 +48,20 @@ class MeetingServiceImplTest {
     private TimeSlotRepository timeSlotRepository;
 
     @MockBean
-    private NotificationService notificationService;
+    private NotificationOutboxService notificationOutboxService;
+
+    @MockBean
+    private AvailabilityRuleService availabilityRuleService;
+
+    @MockBean
+    private TimeSlotIndex timeSlotIndex;
 
     @Autowired
     private MeetingServiceImpl meetingService;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     private Meeting meeting;
     private MeetingDTO meetingDTO;
     private User organizer;
@@ -68,64 +86,216 @@ class MeetingServiceImplTest {
     void createMeeting_ShouldReturnCreatedMeeting() {
         when(meetingRepository.save(any(Meeting.class))).thenReturn(meeting);
         when(timeSlotRepository.findById(meetingDTO.getTimeSlotId())).thenReturn(Optional.of(timeSlot));
-        when(timeSlotRepository.findAvailableTimeSlotsByUserIdAndTimeRange(any(), any(), any(), any())).thenReturn(List.of(timeSlot));
-        when(userRepository.findById(meetingDTO.getOrganizerId())).thenReturn(Optional.of(organizer));
-        when(userRepository.findAllById(any())).thenReturn(List.of(participant));
+        when(timeSlotRepository.findTimeSlotsByUserIdsAndTimeRange(any(), any(), any(), eq(TimeSlotStatus.AVAILABLE)))
+                .thenReturn(List.of(organizerSlot(), participantSlot()));
+        when(timeSlotRepository.bookAvailableTimeSlots(any(), eq(TimeSlotStatus.BOOKED), any(), any())).thenReturn(2);
+        when(userRepository.findAllById(any())).thenReturn(List.of(organizer, participant));
         MeetingDTO result = meetingService.createMeeting(meetingDTO);
 
         assertThat(result).isNotNull();
         assertThat(result.getId()).isEqualTo(meetingDTO.getId());
         assertThat(result.getTitle()).isEqualTo(meetingDTO.getTitle());
         assertThat(result.getOrganizerId()).isEqualTo(meetingDTO.getOrganizerId());
+        assertThat(result.getUnavailableParticipantIds()).isEmpty();
 
-        verify(meetingRepository).save(meeting);
-        verify(notificationService).sendMeetingInvitation(any(), any());
+        verify(meetingRepository).save(argThat(saved -> saved.getOrganizer() == organizer &&
+                saved.getParticipants().containsAll(List.of(organizer, participant))));
+        verify(timeSlotRepository, times(1)).findTimeSlotsByUserIdsAndTimeRange(any(), any(), any(), any());
+        verify(timeSlotRepository).bookAvailableTimeSlots(eq(Set.of(10L, 20L)), eq(TimeSlotStatus.BOOKED), any(), any());
+        verify(timeSlotRepository, never()).save(any());
+        verify(userRepository, never()).findById(any());
+        verify(notificationOutboxService).enqueue(NotificationType.MEETING_INVITATION, meeting.getParticipants(), meeting);
+    }
+
+    @Test
+    void createMeeting_WhenParticipantHasNoAvailableSlot_ShouldLeaveThemOffTheMeeting() {
+        when(meetingRepository.save(any(Meeting.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(timeSlotRepository.findById(meetingDTO.getTimeSlotId())).thenReturn(Optional.of(timeSlot));
+        when(timeSlotRepository.findTimeSlotsByUserIdsAndTimeRange(any(), any(), any(), eq(TimeSlotStatus.AVAILABLE)))
+                .thenReturn(List.of(organizerSlot()));
+        when(availabilityRuleService.materializeOverlappingOccurrence(eq(2L), any(), any())).thenReturn(Optional.empty());
+        when(timeSlotRepository.bookAvailableTimeSlots(any(), eq(TimeSlotStatus.BOOKED), any(), any())).thenReturn(1);
+        when(userRepository.findAllById(any())).thenReturn(List.of(organizer, participant));
+
+        MeetingDTO result = meetingService.createMeeting(meetingDTO);
+
+        assertThat(result.getUnavailableParticipantIds()).containsExactly(2L);
+        assertThat(result.getParticipantIds()).containsExactly(organizer.getId());
+        verify(timeSlotRepository).bookAvailableTimeSlots(eq(Set.of(10L)), eq(TimeSlotStatus.BOOKED), any(), any());
+        verify(notificationOutboxService).enqueue(eq(NotificationType.MEETING_INVITATION), eq(Set.of(organizer)), any());
+    }
+
+    @Test
+    void createMeeting_WhenParticipantCalendarIsIndexed_ShouldOnlyQueryTheOthers() {
+        when(meetingRepository.save(any(Meeting.class))).thenReturn(meeting);
+        when(timeSlotRepository.findById(meetingDTO.getTimeSlotId())).thenReturn(Optional.of(timeSlot));
+        when(timeSlotIndex.findCachedOverlapping(any(), any(), any(), eq(TimeSlotStatus.AVAILABLE))).thenReturn(Map.of(
+                2L, new TimeSlotInterval(20L, timeSlot.getStartTime(), timeSlot.getEndTime(), TimeSlotStatus.AVAILABLE)));
+        when(timeSlotRepository.findTimeSlotsByUserIdsAndTimeRange(eq(Set.of(1L)), any(), any(), eq(TimeSlotStatus.AVAILABLE)))
+                .thenReturn(List.of(organizerSlot()));
+        when(timeSlotRepository.bookAvailableTimeSlots(any(), eq(TimeSlotStatus.BOOKED), any(), any())).thenReturn(2);
+        when(userRepository.findAllById(any())).thenReturn(List.of(organizer, participant));
+
+        MeetingDTO result = meetingService.createMeeting(meetingDTO);
+
+        assertThat(result.getUnavailableParticipantIds()).isEmpty();
+        verify(timeSlotRepository).findTimeSlotsByUserIdsAndTimeRange(eq(Set.of(1L)), any(), any(), eq(TimeSlotStatus.AVAILABLE));
+        verify(timeSlotRepository).bookAvailableTimeSlots(eq(Set.of(10L, 20L)), eq(TimeSlotStatus.BOOKED), any(), any());
+    }
+
+    @Test
+    void createMeeting_WhenEveryCalendarIsIndexed_ShouldNotQuerySlots() {
+        when(meetingRepository.save(any(Meeting.class))).thenReturn(meeting);
+        when(timeSlotRepository.findById(meetingDTO.getTimeSlotId())).thenReturn(Optional.of(timeSlot));
+        when(timeSlotIndex.findCachedOverlapping(any(), any(), any(), eq(TimeSlotStatus.AVAILABLE))).thenReturn(Map.of(
+                1L, new TimeSlotInterval(10L, timeSlot.getStartTime(), timeSlot.getEndTime(), TimeSlotStatus.AVAILABLE),
+                2L, new TimeSlotInterval(20L, timeSlot.getStartTime(), timeSlot.getEndTime(), TimeSlotStatus.AVAILABLE)));
+        when(timeSlotRepository.bookAvailableTimeSlots(any(), eq(TimeSlotStatus.BOOKED), any(), any())).thenReturn(2);
+        when(userRepository.findAllById(any())).thenReturn(List.of(organizer, participant));
+
+        meetingService.createMeeting(meetingDTO);
+
+        verify(timeSlotRepository, never()).findTimeSlotsByUserIdsAndTimeRange(any(), any(), any(), any());
+        verify(timeSlotRepository).bookAvailableTimeSlots(eq(Set.of(10L, 20L)), eq(TimeSlotStatus.BOOKED), any(), any());
+    }
+
+    @Test
+    void createMeeting_WhenIndexedSlotIsStale_ShouldEvictAndRetryFromRepository() {
+        when(meetingRepository.save(any(Meeting.class))).thenReturn(meeting);
+        when(timeSlotRepository.findById(meetingDTO.getTimeSlotId())).thenReturn(Optional.of(timeSlot));
+        when(timeSlotIndex.findCachedOverlapping(any(), any(), any(), eq(TimeSlotStatus.AVAILABLE))).thenReturn(Map.of(
+                2L, new TimeSlotInterval(20L, timeSlot.getStartTime(), timeSlot.getEndTime(), TimeSlotStatus.AVAILABLE)));
+        when(timeSlotRepository.findTimeSlotsByUserIdsAndTimeRange(eq(Set.of(1L)), any(), any(), eq(TimeSlotStatus.AVAILABLE)))
+                .thenReturn(List.of(organizerSlot()));
+        when(timeSlotRepository.bookAvailableTimeSlots(eq(Set.of(10L, 20L)), eq(TimeSlotStatus.BOOKED), any(), any())).thenReturn(1);
+        when(timeSlotRepository.findBookedTimeSlotsByMeetingIdAndUserIds(meeting.getId(), Set.of(1L, 2L)))
+                .thenReturn(List.of(organizerSlot()));
+        when(timeSlotRepository.findTimeSlotsByUserIdsAndTimeRange(eq(Set.of(2L)), any(), any(), eq(TimeSlotStatus.AVAILABLE)))
+                .thenReturn(List.of(slotOf(participant, 21L)));
+        when(timeSlotRepository.bookAvailableTimeSlots(eq(Set.of(21L)), eq(TimeSlotStatus.BOOKED), any(), any())).thenReturn(1);
+        when(userRepository.findAllById(any())).thenReturn(List.of(organizer, participant));
+
+        MeetingDTO result = meetingService.createMeeting(meetingDTO);
+
+        assertThat(result.getUnavailableParticipantIds()).isEmpty();
+        verify(timeSlotIndex).evict(2L);
+        verify(timeSlotRepository).bookAvailableTimeSlots(eq(Set.of(21L)), eq(TimeSlotStatus.BOOKED), any(), any());
+        verify(notificationOutboxService).enqueue(eq(NotificationType.MEETING_INVITATION), any(), eq(meeting));
+    }
+
+    @Test
+    void createMeeting_WhenASlotWasBookedConcurrently_ShouldFailWithoutNotifying() {
+        when(meetingRepository.save(any(Meeting.class))).thenReturn(meeting);
+        when(timeSlotRepository.findById(meetingDTO.getTimeSlotId())).thenReturn(Optional.of(timeSlot));
+        when(timeSlotRepository.findTimeSlotsByUserIdsAndTimeRange(any(), any(), any(), eq(TimeSlotStatus.AVAILABLE)))
+                .thenReturn(List.of(organizerSlot(), participantSlot()));
+        when(timeSlotRepository.bookAvailableTimeSlots(any(), eq(TimeSlotStatus.BOOKED), any(), any())).thenReturn(1);
+        when(userRepository.findAllById(any())).thenReturn(List.of(organizer, participant));
+        double conflicts = meterRegistry.counter("minidoodle.bookings", "outcome", "conflict").count();
+
+        assertThatThrownBy(() -> meetingService.createMeeting(meetingDTO))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("booked concurrently");
+        verifyNoInteractions(notificationOutboxService);
+        assertThat(meterRegistry.counter("minidoodle.bookings", "outcome", "conflict").count()).isEqualTo(conflicts + 1);
+    }
+
+    @Test
+    void createMeeting_ShouldRecordBookingParticipantsAndOperationTiming() {
+        when(meetingRepository.save(any(Meeting.class))).thenReturn(meeting);
+        when(timeSlotRepository.findById(meetingDTO.getTimeSlotId())).thenReturn(Optional.of(timeSlot));
+        when(timeSlotRepository.findTimeSlotsByUserIdsAndTimeRange(any(), any(), any(), eq(TimeSlotStatus.AVAILABLE)))
+                .thenReturn(List.of(organizerSlot(), participantSlot()));
+        when(timeSlotRepository.bookAvailableTimeSlots(any(), eq(TimeSlotStatus.BOOKED), any(), any())).thenReturn(2);
+        when(userRepository.findAllById(any())).thenReturn(List.of(organizer, participant));
+        double bookings = meterRegistry.counter("minidoodle.bookings", "outcome", "success").count();
+        long meetings = meterRegistry.summary("minidoodle.meeting.participants").count();
+        double participants = meterRegistry.summary("minidoodle.meeting.participants").totalAmount();
+
+        meetingService.createMeeting(meetingDTO);
+
+        assertThat(meterRegistry.counter("minidoodle.bookings", "outcome", "success").count()).isEqualTo(bookings + 1);
+        assertThat(meterRegistry.summary("minidoodle.meeting.participants").count()).isEqualTo(meetings + 1);
+        assertThat(meterRegistry.summary("minidoodle.meeting.participants").totalAmount()).isEqualTo(participants + 2);
+        assertThat(meterRegistry.get("minidoodle.meeting.operations").tag("method", "createMeeting").timer().count()).isPositive();
+    }
+
+    @Test
+    void createMeeting_WhenOrganizerDoesNotExist_ShouldThrowException() {
+        when(timeSlotRepository.findById(meetingDTO.getTimeSlotId())).thenReturn(Optional.of(timeSlot));
+        when(userRepository.findAllById(any())).thenReturn(List.of(participant));
+
+        assertThatThrownBy(() -> meetingService.createMeeting(meetingDTO))
+                .isInstanceOf(EntityNotFoundException.class)
+                .hasMessageContaining("Organizer not found with id: 1");
+
+        verify(meetingRepository, never()).save(any());
     }
 
     @Test
     void getMeetingById_WhenMeetingExists_ShouldReturnMeeting() {
-        when(meetingRepository.findById(1L)).thenReturn(Optional.of(meeting));
+        when(meetingRepository.findWithParticipantsById(1L)).thenReturn(Optional.of(meeting));
 
         MeetingDTO result = meetingService.getMeetingById(1L);
 
         assertThat(result).isNotNull();
         assertThat(result.getId()).isEqualTo(meetingDTO.getId());
-        verify(meetingRepository).findById(1L);
+        verify(meetingRepository).findWithParticipantsById(1L);
     }
 
     @Test
     void getMeetingById_WhenMeetingDoesNotExist_ShouldThrowException() {
-        when(meetingRepository.findById(1L)).thenReturn(Optional.empty());
+        when(meetingRepository.findWithParticipantsById(1L)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> meetingService.getMeetingById(1L))
                 .isInstanceOf(EntityNotFoundException.class)
                 .hasMessageContaining("Meeting not found with id: 1");
 
-        verify(meetingRepository).findById(1L);
+        verify(meetingRepository).findWithParticipantsById(1L);
+    }
+
+    @Test
+    void getMeetingVersion_ShouldBeDerivedFromUpdatedAtWithoutLoadingTheMeeting() {
+        when(meetingRepository.findUpdatedAtById(1L)).thenReturn(Optional.of(Instant.ofEpochSecond(1_700_000_000L, 123_456_000L)));
+
+        String version = meetingService.getMeetingVersion(1L);
+
+        assertThat(version).isEqualTo("1700000000123456");
+        verify(meetingRepository, never()).findWithParticipantsById(any());
+    }
+
+    @Test
+    void getMeetingVersion_WhenMeetingDoesNotExist_ShouldThrowException() {
+        when(meetingRepository.findUpdatedAtById(1L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> meetingService.getMeetingVersion(1L))
+                .isInstanceOf(EntityNotFoundException.class)
+                .hasMessageContaining("Meeting not found with id: 1");
     }
 
     @Test
     void getMeetingsByOrganizerId_ShouldReturnMeetings() {
         List<Meeting> meetings = Collections.singletonList(meeting);
-        when(meetingRepository.findByOrganizerId(1L)).thenReturn(meetings);
+        when(meetingRepository.findByOrganizerIdAndIdGreaterThanOrderByIdAsc(1L, 0L, Limit.of(51))).thenReturn(meetings);
 
-        List<MeetingDTO> result = meetingService.getMeetingsByOrganizerId(1L);
+        PageDTO<MeetingDTO> result = meetingService.getMeetingsByOrganizerId(1L, null, null);
 
-        assertThat(result).hasSize(1);
-        assertThat(result.getFirst().getId()).isEqualTo(meetingDTO.getId());
-        verify(meetingRepository).findByOrganizerId(1L);
+        assertThat(result.getItems()).hasSize(1);
+        assertThat(result.getItems().getFirst().getId()).isEqualTo(meetingDTO.getId());
+        assertThat(result.getNextCursor()).isNull();
+        verify(meetingRepository).findByOrganizerIdAndIdGreaterThanOrderByIdAsc(1L, 0L, Limit.of(51));
     }
 
     @Test
     void getMeetingsByParticipantId_ShouldReturnMeetings() {
         List<Meeting> meetings = Collections.singletonList(meeting);
-        when(meetingRepository.findByParticipantId(2L)).thenReturn(meetings);
+        when(meetingRepository.findByParticipantIdAndIdGreaterThan(2L, 0L, Limit.of(51))).thenReturn(meetings);
 
-        List<MeetingDTO> result = meetingService.getMeetingsByParticipantId(2L);
+        PageDTO<MeetingDTO> result = meetingService.getMeetingsByParticipantId(2L, null, null);
 
-        assertThat(result).hasSize(1);
-        assertThat(result.getFirst().getId()).isEqualTo(meetingDTO.getId());
-        verify(meetingRepository).findByParticipantId(2L);
+        assertThat(result.getItems()).hasSize(1);
+        assertThat(result.getItems().getFirst().getId()).isEqualTo(meetingDTO.getId());
+        verify(meetingRepository).findByParticipantIdAndIdGreaterThan(2L, 0L, Limit.of(51));
     }
 
     @Test
@@ -135,16 +305,20 @@ class MeetingServiceImplTest {
         when(meetingRepository.findById(1L)).thenReturn(Optional.of(meeting));
         when(userRepository.findById(3L)).thenReturn(Optional.of(newParticipant));
         when(meetingRepository.save(meeting)).thenReturn(meeting);
-        when(timeSlotRepository.findAvailableTimeSlotsByUserIdAndTimeRange(eq(3L), any(), any(), any())).thenReturn(List.of(
-                meeting.getTimeSlot()
+        when(timeSlotRepository.findTimeSlotsByUserIdsAndTimeRange(eq(Set.of(3L)), any(), any(), any())).thenReturn(List.of(
+                slotOf(newParticipant, 30L)
         ));
+        when(timeSlotRepository.bookAvailableTimeSlots(eq(Set.of(30L)), eq(TimeSlotStatus.BOOKED), any(), any())).thenReturn(1);
+        Instant before = Instant.now();
         MeetingDTO result = meetingService.addParticipant(1L, 3L);
 
         assertThat(result).isNotNull();
         assertThat(meeting.getParticipants()).contains(newParticipant);
+        assertThat(meeting.getUpdatedAt()).isAfterOrEqualTo(before);
         verify(meetingRepository).findById(1L);
         verify(userRepository).findById(3L);
         verify(meetingRepository).save(meeting);
+        verify(notificationOutboxService).enqueue(NotificationType.MEETING_INVITATION, List.of(newParticipant), meeting);
     }
 
     @Test
@@ -188,6 +362,7 @@ class MeetingServiceImplTest {
         verify(meetingRepository).findById(1L);
         verify(userRepository).findById(2L);
         verify(meetingRepository).save(meeting);
+        verify(notificationOutboxService).enqueue(NotificationType.MEETING_CANCELLATION, List.of(participant), meeting);
     }
 
     @Test
@@ -227,7 +402,21 @@ class MeetingServiceImplTest {
         assertThat(result).isNotNull();
         assertThat(result.getId()).isEqualTo(meetingDTO.getId());
         verify(meetingRepository).save(meeting);
-        verify(notificationService).sendMeetingInvitation(any(), any());
+        verify(notificationOutboxService, never()).enqueue(any(), any(), any());
+    }
+
+    @Test
+    void updateMeeting_WhenTimeSlotChanges_ShouldNotifyParticipantsExceptOrganizer() {
+        TimeSlot newTimeSlot = slotOf(organizer, 5L);
+        meetingDTO.setTimeSlotId(5L);
+        when(meetingRepository.findById(1L)).thenReturn(Optional.of(meeting));
+        when(timeSlotRepository.findById(5L)).thenReturn(Optional.of(newTimeSlot));
+        when(meetingRepository.save(any(Meeting.class))).thenReturn(meeting);
+
+        meetingService.updateMeeting(1L, meetingDTO);
+
+        assertThat(meeting.getTimeSlot()).isSameAs(newTimeSlot);
+        verify(notificationOutboxService).enqueue(NotificationType.MEETING_RESCHEDULED, List.of(participant), meeting);
     }
 
     @Test
@@ -264,18 +453,37 @@ class MeetingServiceImplTest {
 
     @Test
     void acceptInvitation_ShouldUpdateTimeSlotAndSendNotification() {
+        TimeSlot participantSlot = participantSlot();
+        participantSlot.setStatus(TimeSlotStatus.BOOKED);
+        participantSlot.setBookedMeeting(meeting);
         when(meetingRepository.findById(1L)).thenReturn(Optional.of(meeting));
         when(userRepository.findById(2L)).thenReturn(Optional.of(participant));
-        when(timeSlotRepository.save(any(TimeSlot.class))).thenReturn(timeSlot);
-        timeSlot.setMeeting(meeting);
+        when(timeSlotRepository.findBookedTimeSlotsByMeetingIdAndUserIds(1L, Set.of(2L)))
+                .thenReturn(List.of(participantSlot));
+        when(timeSlotRepository.save(any(TimeSlot.class))).thenReturn(participantSlot);
 
         MeetingDTO result = meetingService.acceptInvitation(1L, 2L);
 
         assertThat(result).isNotNull();
         assertThat(result.getId()).isEqualTo(meetingDTO.getId());
-        verify(timeSlotRepository).save(timeSlot);
-        verify(notificationService).sendMeetingAcceptance(participant, meeting);
-        assertThat(timeSlot.getStatus()).isEqualTo(TimeSlotStatus.BUSY);
+        verify(timeSlotRepository).save(participantSlot);
+        verify(notificationOutboxService).enqueue(NotificationType.MEETING_ACCEPTANCE, List.of(participant), meeting);
+        assertThat(participantSlot.getStatus()).isEqualTo(TimeSlotStatus.BUSY);
+    }
+
+    @Test
+    void acceptInvitation_WhenSlotWasBookedByAnotherMeeting_ShouldThrowException() {
+        TimeSlot otherMeetingSlot = participantSlot();
+        otherMeetingSlot.setStatus(TimeSlotStatus.BOOKED);
+        otherMeetingSlot.setBookedMeeting(TestDataHelper.createTestMeeting(5L, "Other", null, participant, otherMeetingSlot));
+        when(meetingRepository.findById(1L)).thenReturn(Optional.of(meeting));
+        when(userRepository.findById(2L)).thenReturn(Optional.of(participant));
+        when(timeSlotRepository.findBookedTimeSlotsByMeetingIdAndUserIds(5L, Set.of(2L))).thenReturn(List.of(otherMeetingSlot));
+
+        assertThatThrownBy(() -> meetingService.acceptInvitation(1L, 2L))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("TimeSlot not found for participant 2 with the meeting 1");
+        assertThat(otherMeetingSlot.getStatus()).isEqualTo(TimeSlotStatus.BOOKED);
     }
 
     @Test
@@ -289,7 +497,7 @@ class MeetingServiceImplTest {
         verify(meetingRepository).findById(1L);
         verify(userRepository, never()).findById(any());
         verify(timeSlotRepository, never()).save(any());
-        verify(notificationService, never()).sendMeetingAcceptance(any(), any());
+        verify(notificationOutboxService, never()).enqueue(any(), any(), any());
     }
 
     @Test
@@ -304,7 +512,7 @@ class MeetingServiceImplTest {
         verify(meetingRepository).findById(1L);
         verify(userRepository).findById(2L);
         verify(timeSlotRepository, never()).save(any());
-        verify(notificationService, never()).sendMeetingAcceptance(any(), any());
+        verify(notificationOutboxService, never()).enqueue(any(), any(), any());
     }
 
     @Test
@@ -320,7 +528,7 @@ class MeetingServiceImplTest {
         verify(meetingRepository).findById(1L);
         verify(userRepository).findById(2L);
         verify(timeSlotRepository, never()).save(any());
-        verify(notificationService, never()).sendMeetingAcceptance(any(), any());
+        verify(notificationOutboxService, never()).enqueue(any(), any(), any());
     }
 
     @Test
@@ -338,7 +546,7 @@ class MeetingServiceImplTest {
         verify(meetingRepository).findById(1L);
         verify(userRepository).findById(2L);
         verify(timeSlotRepository, never()).save(any());
-        verify(notificationService, never()).sendMeetingAcceptance(any(), any());
+        verify(notificationOutboxService, never()).enqueue(any(), any(), any());
     }
 
     @Test
@@ -346,14 +554,31 @@ class MeetingServiceImplTest {
         when(meetingRepository.findById(1L)).thenReturn(Optional.of(meeting));
         when(userRepository.findById(2L)).thenReturn(Optional.of(participant));
         when(meetingRepository.save(any())).thenAnswer(invocation -> invocation.getRawArguments()[0]);
-
-        timeSlot.setMeeting(meeting);
-        timeSlot.setStatus(TimeSlotStatus.BUSY);
+        TimeSlot participantSlot = participantSlot();
+        participantSlot.setStatus(TimeSlotStatus.BUSY);
+        participantSlot.setBookedMeeting(meeting);
+        when(timeSlotRepository.findBookedTimeSlotsByMeetingIdAndUserIds(1L, Set.of(2L)))
+                .thenReturn(List.of(participantSlot));
 
         MeetingDTO result = meetingService.removeParticipant(1L, 2L);
 
         assertThat(result).isNotNull();
-        assertThat(timeSlot.getStatus()).isEqualTo(TimeSlotStatus.AVAILABLE);
+        assertThat(participantSlot.getStatus()).isEqualTo(TimeSlotStatus.AVAILABLE);
+        assertThat(participantSlot.getBookedMeeting()).isNull();
         verify(meetingRepository).save(meeting);
     }
-} 
\ No newline at end of file
+
+    private TimeSlot organizerSlot() {
+        return slotOf(organizer, 10L);
+    }
+
+    private TimeSlot participantSlot() {
+        return slotOf(participant, 20L);
+    }
+
+    private TimeSlot slotOf(User user, Long slotId) {
+        Calendar calendar = TestDataHelper.createTestCalendar(user.getId());
+        calendar.setUser(user);
+        return TestDataHelper.createTestTimeSlot(slotId, calendar, timeSlot.getStartTime(), timeSlot.getEndTime(), TimeSlotStatus.AVAILABLE);
+    }
+}
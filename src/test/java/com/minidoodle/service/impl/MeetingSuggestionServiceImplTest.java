@@ -0,0 +1,130 @@
+package com.minidoodle.service.impl;
+
+import com.minidoodle.cache.FreeBusyStore;
+import com.minidoodle.dto.MeetingSuggestionDTO;
+import com.minidoodle.dto.MeetingSuggestionRequestDTO;
+import com.minidoodle.exception.TimeSlotException;
+import com.minidoodle.helper.TestDataHelper;
+import com.minidoodle.model.Calendar;
+import com.minidoodle.model.TimeSlot;
+import com.minidoodle.model.TimeSlotStatus;
+import com.minidoodle.model.User;
+import com.minidoodle.repository.TimeSlotRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Set;
+
+import static com.minidoodle.mapper.TimeSlotMapper.toInstant;
+import static com.minidoodle.mapper.TimeSlotMapper.toLocalDateTime;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest
+class MeetingSuggestionServiceImplTest {
+
+    @MockBean
+    private TimeSlotRepository timeSlotRepository;
+
+    @MockBean
+    private FreeBusyStore freeBusyStore;
+
+    @Autowired
+    private MeetingSuggestionServiceImpl meetingSuggestionService;
+
+    private LocalDateTime windowStart;
+    private Calendar firstCalendar;
+    private Calendar secondCalendar;
+
+    @BeforeEach
+    void setUp() {
+        windowStart = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS).plusDays(1);
+        firstCalendar = calendarOf(TestDataHelper.createTestUser(1L, "first@example.com", "First"));
+        secondCalendar = calendarOf(TestDataHelper.createTestUser(2L, "second@example.com", "Second"));
+        when(freeBusyStore.isFree(any(), any(), any())).thenReturn(true);
+    }
+
+    @Test
+    void suggestMeetingTimes_ShouldRankTimesByNumberOfFreeParticipants() {
+        Instant start = toInstant(windowStart);
+        TimeSlot firstMorning = slot(1L, firstCalendar, start, start.plus(2, ChronoUnit.HOURS));
+        TimeSlot secondLateMorning = slot(2L, secondCalendar, start.plus(1, ChronoUnit.HOURS), start.plus(3, ChronoUnit.HOURS));
+        when(timeSlotRepository.findTimeSlotsByUserIdsAndTimeRange(any(), any(), any(), eq(TimeSlotStatus.AVAILABLE)))
+                .thenReturn(List.of(firstMorning, secondLateMorning));
+
+        List<MeetingSuggestionDTO> result = meetingSuggestionService.suggestMeetingTimes(request(60, 4));
+
+        assertThat(result).hasSize(2);
+        assertThat(result.getFirst().getStartTime()).isEqualTo(toLocalDateTime(start.plus(1, ChronoUnit.HOURS)));
+        assertThat(result.getFirst().getAvailableCount()).isEqualTo(2);
+        assertThat(result.getFirst().getAvailableUserIds()).containsExactly(1L, 2L);
+        assertThat(result.get(1).getStartTime()).isEqualTo(windowStart);
+        assertThat(result.get(1).getAvailableUserIds()).containsExactly(1L);
+        verify(timeSlotRepository, times(1)).findTimeSlotsByUserIdsAndTimeRange(any(), any(), any(), any());
+    }
+
+    @Test
+    void suggestMeetingTimes_ShouldSkipSlotsShorterThanDuration() {
+        Instant start = toInstant(windowStart);
+        TimeSlot shortSlot = slot(1L, firstCalendar, start, start.plus(30, ChronoUnit.MINUTES));
+        when(timeSlotRepository.findTimeSlotsByUserIdsAndTimeRange(any(), any(), any(), any()))
+                .thenReturn(List.of(shortSlot));
+
+        List<MeetingSuggestionDTO> result = meetingSuggestionService.suggestMeetingTimes(request(60, 4));
+
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    void suggestMeetingTimes_ShouldSkipSlotsBookedSinceTheyWereRead() {
+        Instant start = toInstant(windowStart);
+        TimeSlot firstMorning = slot(1L, firstCalendar, start, start.plus(2, ChronoUnit.HOURS));
+        TimeSlot secondMorning = slot(2L, secondCalendar, start, start.plus(2, ChronoUnit.HOURS));
+        when(timeSlotRepository.findTimeSlotsByUserIdsAndTimeRange(any(), any(), any(), eq(TimeSlotStatus.AVAILABLE)))
+                .thenReturn(List.of(firstMorning, secondMorning));
+        when(freeBusyStore.isFree(2L, secondMorning.getStartTime(), secondMorning.getEndTime())).thenReturn(false);
+
+        List<MeetingSuggestionDTO> result = meetingSuggestionService.suggestMeetingTimes(request(60, 4));
+
+        assertThat(result).isNotEmpty();
+        assertThat(result).allSatisfy(suggestion -> assertThat(suggestion.getAvailableUserIds()).containsExactly(1L));
+    }
+
+    @Test
+    void suggestMeetingTimes_WhenWindowShorterThanDuration_ShouldThrowException() {
+        assertThatThrownBy(() -> meetingSuggestionService.suggestMeetingTimes(request(600, 4)))
+                .isInstanceOf(TimeSlotException.class);
+
+        verify(timeSlotRepository, never()).findTimeSlotsByUserIdsAndTimeRange(any(), any(), any(), any());
+    }
+
+    private MeetingSuggestionRequestDTO request(int durationMinutes, int windowHours) {
+        MeetingSuggestionRequestDTO request = new MeetingSuggestionRequestDTO();
+        request.setUserIds(Set.of(1L, 2L));
+        request.setDurationMinutes(durationMinutes);
+        request.setStartTime(windowStart);
+        request.setEndTime(windowStart.plusHours(windowHours));
+        return request;
+    }
+
+    private static Calendar calendarOf(User user) {
+        Calendar calendar = TestDataHelper.createTestCalendar(user.getId());
+        calendar.setUser(user);
+        user.setCalendar(calendar);
+        return calendar;
+    }
+
+    private static TimeSlot slot(Long id, Calendar calendar, Instant start, Instant end) {
+        return TestDataHelper.createTestTimeSlot(id, calendar, start, end, TimeSlotStatus.AVAILABLE);
+    }
+}
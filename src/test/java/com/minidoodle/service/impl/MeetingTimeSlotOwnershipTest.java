@@ -0,0 +1,147 @@
+package com.minidoodle.service.impl;
+
+import com.minidoodle.dto.MeetingDTO;
+import com.minidoodle.model.TimeSlot;
+import com.minidoodle.model.TimeSlotStatus;
+import com.minidoodle.model.User;
+import com.minidoodle.repository.TimeSlotRepository;
+import com.minidoodle.repository.UserRepository;
+import com.minidoodle.service.MeetingService;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "minidoodle.outbox.dispatcher.enabled=false")
+class MeetingTimeSlotOwnershipTest {
+    private static final Instant START = Instant.now().truncatedTo(ChronoUnit.DAYS).plus(2, ChronoUnit.DAYS);
+
+    @Autowired
+    private MeetingService meetingService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TimeSlotRepository timeSlotRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final String emailPrefix = "ownership-" + System.nanoTime();
+    private TransactionTemplate transactionTemplate;
+    private User participant;
+    private TimeSlot firstSlot;
+    private TimeSlot secondSlot;
+    private MeetingDTO first;
+    private MeetingDTO second;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        User firstOrganizer = createUser("first-organizer");
+        User secondOrganizer = createUser("second-organizer");
+        participant = createUser("participant");
+        firstSlot = createSlot(participant, START, START.plus(1, ChronoUnit.HOURS));
+        secondSlot = createSlot(participant, START.plus(1, ChronoUnit.HOURS), START.plus(2, ChronoUnit.HOURS));
+
+        first = meetingService.createMeeting(meeting(firstOrganizer,
+                createSlot(firstOrganizer, START, START.plus(1, ChronoUnit.HOURS))));
+        second = meetingService.createMeeting(meeting(secondOrganizer,
+                createSlot(secondOrganizer, START, START.plus(2, ChronoUnit.HOURS))));
+    }
+
+    @AfterEach
+    void tearDown() {
+        String users = "SELECT id FROM users WHERE email LIKE '" + emailPrefix + "-%'";
+        jdbcTemplate.update("DELETE FROM notification_outbox WHERE recipient_id IN (" + users + ")");
+        jdbcTemplate.update("DELETE FROM meeting_participants WHERE meeting_id IN (SELECT id FROM meetings WHERE organizer_id IN (" + users + "))");
+        jdbcTemplate.update("DELETE FROM meetings WHERE organizer_id IN (" + users + ")");
+        jdbcTemplate.update("DELETE FROM time_slots WHERE calendar_id IN (" + users + ")");
+        jdbcTemplate.update("DELETE FROM calendars WHERE id IN (" + users + ")");
+        jdbcTemplate.update("DELETE FROM users WHERE email LIKE '" + emailPrefix + "-%'");
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    void createMeeting_ShouldRecordWhichMeetingBookedEachSlot() {
+        assertThat(second.getUnavailableParticipantIds()).isEmpty();
+        assertThat(bookedMeetingId(firstSlot)).isEqualTo(first.getId());
+        assertThat(bookedMeetingId(secondSlot)).isEqualTo(second.getId());
+    }
+
+    @Test
+    void acceptAndRemoveParticipant_ShouldOnlyTouchTheSlotOfThatMeeting() {
+        meetingService.acceptInvitation(second.getId(), participant.getId());
+
+        assertThat(status(firstSlot)).isEqualTo(TimeSlotStatus.BOOKED);
+        assertThat(status(secondSlot)).isEqualTo(TimeSlotStatus.BUSY);
+
+        meetingService.removeParticipant(second.getId(), participant.getId());
+
+        assertThat(status(firstSlot)).isEqualTo(TimeSlotStatus.BOOKED);
+        assertThat(bookedMeetingId(firstSlot)).isEqualTo(first.getId());
+        assertThat(status(secondSlot)).isEqualTo(TimeSlotStatus.AVAILABLE);
+        assertThat(bookedMeetingId(secondSlot)).isNull();
+    }
+
+    @Test
+    void deleteMeeting_ShouldOnlyFreeTheSlotsOfThatMeeting() {
+        meetingService.deleteMeeting(second.getId());
+
+        assertThat(status(firstSlot)).isEqualTo(TimeSlotStatus.BOOKED);
+        assertThat(bookedMeetingId(firstSlot)).isEqualTo(first.getId());
+        assertThat(status(secondSlot)).isEqualTo(TimeSlotStatus.AVAILABLE);
+        assertThat(bookedMeetingId(secondSlot)).isNull();
+    }
+
+    private MeetingDTO meeting(User organizer, TimeSlot timeSlot) {
+        MeetingDTO meetingDTO = new MeetingDTO();
+        meetingDTO.setTitle("Ownership");
+        meetingDTO.setOrganizerId(organizer.getId());
+        meetingDTO.setTimeSlotId(timeSlot.getId());
+        meetingDTO.setParticipantIds(Set.of(participant.getId()));
+        return meetingDTO;
+    }
+
+    private User createUser(String name) {
+        User user = new User();
+        user.setEmail(emailPrefix + "-" + name + "@example.com");
+        user.setName(name);
+        return transactionTemplate.execute(status -> userRepository.save(user));
+    }
+
+    private TimeSlot createSlot(User user, Instant startTime, Instant endTime) {
+        TimeSlot slot = new TimeSlot();
+        slot.setCalendar(user.getCalendar());
+        slot.setStartTime(startTime);
+        slot.setEndTime(endTime);
+        slot.setStatus(TimeSlotStatus.AVAILABLE);
+        return transactionTemplate.execute(status -> timeSlotRepository.save(slot));
+    }
+
+    private TimeSlotStatus status(TimeSlot slot) {
+        return TimeSlotStatus.valueOf(jdbcTemplate.queryForObject("SELECT status FROM time_slots WHERE id = ?", String.class, slot.getId()));
+    }
+
+    private Long bookedMeetingId(TimeSlot slot) {
+        return jdbcTemplate.queryForObject("SELECT booked_meeting_id FROM time_slots WHERE id = ?", Long.class, slot.getId());
+    }
+}
@@ -0,0 +1,187 @@
+package com.minidoodle.service.impl;
+
+import com.minidoodle.dto.MeetingNotification;
+import com.minidoodle.helper.TestDataHelper;
+import com.minidoodle.model.Meeting;
+import com.minidoodle.model.NotificationOutboxEntry;
+import com.minidoodle.model.NotificationType;
+import com.minidoodle.model.User;
+import com.minidoodle.repository.MeetingRepository;
+import com.minidoodle.repository.NotificationOutboxRepository;
+import com.minidoodle.repository.UserRepository;
+import com.minidoodle.service.NotificationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest(properties = "minidoodle.outbox.dispatcher.enabled=false")
+class NotificationOutboxServiceImplTest {
+
+    @MockBean
+    private NotificationOutboxRepository notificationOutboxRepository;
+
+    @MockBean
+    private MeetingRepository meetingRepository;
+
+    @MockBean
+    private UserRepository userRepository;
+
+    @MockBean
+    private NotificationService notificationService;
+
+    @Autowired
+    private NotificationOutboxServiceImpl notificationOutboxService;
+
+    private User organizer;
+    private User participant;
+    private Meeting meeting;
+
+    @BeforeEach
+    void setUp() {
+        organizer = TestDataHelper.createTestUser(1L, "organizer@example.com", "Organizer");
+        participant = TestDataHelper.createTestUser(2L, "participant@example.com", "Participant");
+        meeting = TestDataHelper.createTestMeeting(10L, "Planning", null, organizer,
+                TestDataHelper.createDefaultTestTimeSlot(), organizer, participant);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void enqueue_ShouldWriteOneEntryPerRecipientDelayedByCoalescingWindow() {
+        notificationOutboxService.enqueue(NotificationType.MEETING_INVITATION, meeting.getParticipants(), meeting);
+
+        verify(notificationOutboxRepository).saveAll(argThat(entries -> {
+            List<NotificationOutboxEntry> list = (List<NotificationOutboxEntry>) entries;
+            return list.size() == 2 && list.stream().allMatch(entry ->
+                    entry.getType() == NotificationType.MEETING_INVITATION && entry.getMeetingId().equals(10L) &&
+                    entry.getAvailableAt().isAfter(Instant.now()));
+        }));
+        verifyNoInteractions(notificationService);
+    }
+
+    @Test
+    void dispatchPending_WhenMeetingWasEditedRepeatedly_ShouldSendOneDigestPerRecipient() {
+        List<User> recipients = new ArrayList<>();
+        List<NotificationOutboxEntry> entries = new ArrayList<>();
+        for (long userId = 100; userId < 300; userId++) {
+            User recipient = TestDataHelper.createTestUser(userId, "user" + userId + "@example.com", "User " + userId);
+            recipients.add(recipient);
+            for (int edit = 0; edit < 5; edit++) {
+                entries.add(entry(userId * 10 + edit, NotificationType.MEETING_RESCHEDULED, recipient));
+            }
+        }
+        when(notificationOutboxRepository.claimBatch(any(), anyInt())).thenReturn(entries);
+        when(meetingRepository.findWithOrganizerByIdIn(any())).thenReturn(List.of(meeting));
+        when(userRepository.findAllById(any())).thenReturn(recipients);
+        when(notificationService.sendMeetingDigest(any(), any())).thenReturn(CompletableFuture.completedFuture(null));
+
+        notificationOutboxService.dispatchPending();
+
+        verify(notificationService, times(200)).sendMeetingDigest(any(),
+                eq(List.of(new MeetingNotification(NotificationType.MEETING_RESCHEDULED, meeting))));
+        verify(notificationService, never()).sendMeetingInvitation(any(), any());
+        verify(notificationOutboxRepository).deleteAllInBatch(argThat(deleted -> ((List<?>) deleted).size() == 1000));
+    }
+
+    @Test
+    void dispatchPending_WhenInvitedAndRescheduled_ShouldSendSingleInvitation() {
+        NotificationOutboxEntry invitation = entry(100L, NotificationType.MEETING_INVITATION, participant);
+        NotificationOutboxEntry rescheduled = entry(101L, NotificationType.MEETING_RESCHEDULED, participant);
+        when(notificationOutboxRepository.claimBatch(any(), anyInt())).thenReturn(List.of(invitation, rescheduled));
+        when(meetingRepository.findWithOrganizerByIdIn(any())).thenReturn(List.of(meeting));
+        when(userRepository.findAllById(any())).thenReturn(List.of(participant));
+        when(notificationService.sendMeetingInvitation(participant, meeting)).thenReturn(CompletableFuture.completedFuture(null));
+
+        notificationOutboxService.dispatchPending();
+
+        verify(notificationService).sendMeetingInvitation(participant, meeting);
+        verify(notificationService, never()).sendMeetingDigest(any(), any());
+        verify(notificationOutboxRepository).deleteAllInBatch(List.of(invitation, rescheduled));
+    }
+
+    @Test
+    void dispatchPending_WhenInvitedAndRemovedWithinWindow_ShouldSendNothing() {
+        NotificationOutboxEntry invitation = entry(100L, NotificationType.MEETING_INVITATION, participant);
+        NotificationOutboxEntry cancellation = entry(101L, NotificationType.MEETING_CANCELLATION, participant);
+        when(notificationOutboxRepository.claimBatch(any(), anyInt())).thenReturn(List.of(invitation, cancellation));
+        when(meetingRepository.findWithOrganizerByIdIn(any())).thenReturn(List.of(meeting));
+        when(userRepository.findAllById(any())).thenReturn(List.of(participant));
+
+        notificationOutboxService.dispatchPending();
+
+        verifyNoInteractions(notificationService);
+        verify(notificationOutboxRepository).deleteAllInBatch(List.of(invitation, cancellation));
+    }
+
+    @Test
+    void dispatchPending_ShouldSendClaimedEntriesAndDeleteThem() {
+        NotificationOutboxEntry invitation = entry(100L, NotificationType.MEETING_INVITATION, participant);
+        NotificationOutboxEntry acceptance = entry(101L, NotificationType.MEETING_ACCEPTANCE, participant);
+        when(notificationOutboxRepository.claimBatch(any(), anyInt())).thenReturn(List.of(invitation, acceptance));
+        when(meetingRepository.findWithOrganizerByIdIn(any())).thenReturn(List.of(meeting));
+        when(userRepository.findAllById(any())).thenReturn(List.of(participant));
+        when(notificationService.sendMeetingInvitation(participant, meeting)).thenReturn(CompletableFuture.completedFuture(null));
+        when(notificationService.sendMeetingAcceptance(participant, meeting)).thenReturn(CompletableFuture.completedFuture(null));
+
+        int dispatched = notificationOutboxService.dispatchPending();
+
+        assertThat(dispatched).isEqualTo(2);
+        verify(notificationService).sendMeetingInvitation(participant, meeting);
+        verify(notificationService).sendMeetingAcceptance(participant, meeting);
+        verify(notificationOutboxRepository).deleteAllInBatch(argThat(deleted ->
+                ((List<?>) deleted).containsAll(List.of(invitation, acceptance)) && ((List<?>) deleted).size() == 2));
+    }
+
+    @Test
+    void dispatchPending_WhenSendFails_ShouldKeepEntryForRetry() {
+        NotificationOutboxEntry invitation = entry(100L, NotificationType.MEETING_INVITATION, participant);
+        when(notificationOutboxRepository.claimBatch(any(), anyInt())).thenReturn(List.of(invitation));
+        when(meetingRepository.findWithOrganizerByIdIn(any())).thenReturn(List.of(meeting));
+        when(userRepository.findAllById(any())).thenReturn(List.of(participant));
+        when(notificationService.sendMeetingInvitation(participant, meeting))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("smtp down")));
+
+        notificationOutboxService.dispatchPending();
+
+        assertThat(invitation.getAttempts()).isEqualTo(1);
+        assertThat(invitation.getAvailableAt()).isAfter(Instant.now());
+        verify(notificationOutboxRepository).deleteAllInBatch(List.of());
+    }
+
+    @Test
+    void dispatchPending_WhenMeetingWasDeleted_ShouldDropEntry() {
+        NotificationOutboxEntry invitation = entry(100L, NotificationType.MEETING_INVITATION, participant);
+        when(notificationOutboxRepository.claimBatch(any(), anyInt())).thenReturn(List.of(invitation));
+        when(meetingRepository.findWithOrganizerByIdIn(any())).thenReturn(List.of());
+        when(userRepository.findAllById(any())).thenReturn(List.of(participant));
+
+        notificationOutboxService.dispatchPending();
+
+        verifyNoInteractions(notificationService);
+        verify(notificationOutboxRepository).deleteAllInBatch(List.of(invitation));
+    }
+
+    @Test
+    void dispatchPending_WhenNothingIsPending_ShouldNotLoadAnything() {
+        when(notificationOutboxRepository.claimBatch(any(), anyInt())).thenReturn(List.of());
+
+        assertThat(notificationOutboxService.dispatchPending()).isZero();
+        verifyNoInteractions(meetingRepository, userRepository, notificationService);
+    }
+
+    private NotificationOutboxEntry entry(Long id, NotificationType type, User recipient) {
+        NotificationOutboxEntry entry = new NotificationOutboxEntry(type, recipient.getId(), meeting.getId(), Instant.now());
+        entry.setId(id);
+        return entry;
+    }
+}
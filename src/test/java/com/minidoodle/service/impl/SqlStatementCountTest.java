@@ -0,0 +1,467 @@
+package com.minidoodle.service.impl;
+
+import com.minidoodle.dto.FreeBusyRequestDTO;
+import com.minidoodle.dto.MeetingDTO;
+import com.minidoodle.dto.TimeSlotDTO;
+import com.minidoodle.dto.UserDTO;
+import com.minidoodle.helper.SqlStatementCounter;
+import com.minidoodle.mapper.CursorMapper;
+import com.minidoodle.model.Meeting;
+import com.minidoodle.model.TimeSlot;
+import com.minidoodle.model.TimeSlotStatus;
+import com.minidoodle.model.User;
+import com.minidoodle.repository.MeetingRepository;
+import com.minidoodle.repository.TimeSlotRepository;
+import com.minidoodle.repository.UserRepository;
+import com.minidoodle.service.FreeBusyService;
+import com.minidoodle.service.MeetingService;
+import com.minidoodle.service.TimeSlotService;
+import com.minidoodle.service.UserService;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "minidoodle.outbox.dispatcher.enabled=false")
+class SqlStatementCountTest {
+    private static final Instant START = Instant.now().truncatedTo(ChronoUnit.DAYS).plus(1, ChronoUnit.DAYS);
+
+    @Autowired
+    private MeetingService meetingService;
+
+    @Autowired
+    private TimeSlotService timeSlotService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private FreeBusyService freeBusyService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TimeSlotRepository timeSlotRepository;
+
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private TransactionTemplate transactionTemplate;
+    private final String emailPrefix = "statements-" + System.nanoTime();
+    private int userCount;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        String users = "SELECT id FROM users WHERE email LIKE '" + emailPrefix + "-%'";
+        jdbcTemplate.update("DELETE FROM notification_outbox WHERE recipient_id IN (" + users + ")");
+        jdbcTemplate.update("DELETE FROM meeting_participants WHERE meeting_id IN (SELECT id FROM meetings WHERE organizer_id IN (" + users + "))");
+        jdbcTemplate.update("DELETE FROM meetings WHERE organizer_id IN (" + users + ")");
+        jdbcTemplate.update("DELETE FROM time_slots WHERE calendar_id IN (" + users + ")");
+        jdbcTemplate.update("DELETE FROM calendars WHERE id IN (" + users + ")");
+        jdbcTemplate.update("DELETE FROM users WHERE email LIKE '" + emailPrefix + "-%'");
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 100})
+    void createMeeting_ShouldNotGrowWithData(int participants) {
+        User organizer = createUsers(1).getFirst();
+        TimeSlot timeSlot = createSlots(organizer, 1, TimeSlotStatus.AVAILABLE).getFirst();
+        List<User> invitees = createUsers(participants);
+        invitees.forEach(invitee -> createSlots(invitee, 1, TimeSlotStatus.AVAILABLE));
+        MeetingDTO meetingDTO = new MeetingDTO();
+        meetingDTO.setTitle("Statements");
+        meetingDTO.setOrganizerId(organizer.getId());
+        meetingDTO.setTimeSlotId(timeSlot.getId());
+        meetingDTO.setParticipantIds(ids(invitees));
+
+        assertStatements(7, () -> meetingService.createMeeting(meetingDTO));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 100})
+    void updateMeeting_ShouldNotGrowWithData(int participants) {
+        Meeting meeting = seedMeeting(participants);
+        MeetingDTO meetingDTO = new MeetingDTO();
+        meetingDTO.setTitle("Renamed");
+        meetingDTO.setOrganizerId(meeting.getOrganizer().getId());
+        meetingDTO.setTimeSlotId(meeting.getTimeSlot().getId());
+
+        assertStatements(4, () -> meetingService.updateMeeting(meeting.getId(), meetingDTO));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 100})
+    void deleteMeeting_ShouldNotGrowWithData(int participants) {
+        Meeting meeting = seedMeeting(participants);
+
+        assertStatements(4, () -> meetingService.deleteMeeting(meeting.getId()));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 100})
+    void getMeetingById_ShouldNotGrowWithData(int participants) {
+        Meeting meeting = seedMeeting(participants);
+
+        assertStatements(1, () -> meetingService.getMeetingById(meeting.getId()));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 100})
+    void getMeetingVersion_ShouldNotGrowWithData(int participants) {
+        Meeting meeting = seedMeeting(participants);
+
+        assertStatements(1, () -> meetingService.getMeetingVersion(meeting.getId()));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 100})
+    void getMeetingsByOrganizerId_ShouldNotGrowWithData(int meetings) {
+        User organizer = createUsers(1).getFirst();
+        createMeetings(organizer, createUsers(meetings), meetings);
+
+        assertStatements(2, () -> meetingService.getMeetingsByOrganizerId(organizer.getId(), null, meetings));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 100})
+    void getMeetingsByParticipantId_ShouldNotGrowWithData(int meetings) {
+        User organizer = createUsers(1).getFirst();
+        User participant = createUsers(1).getFirst();
+        List<User> participants = new ArrayList<>(createUsers(meetings - 1));
+        participants.add(participant);
+        createMeetings(organizer, participants, meetings);
+
+        assertStatements(2, () -> meetingService.getMeetingsByParticipantId(participant.getId(), null, meetings));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 100})
+    void addParticipant_ShouldNotGrowWithData(int participants) {
+        Meeting meeting = seedMeeting(participants);
+        User invitee = createUsers(1).getFirst();
+        createSlots(invitee, 1, TimeSlotStatus.AVAILABLE);
+
+        assertStatements(9, () -> meetingService.addParticipant(meeting.getId(), invitee.getId()));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 100})
+    void removeParticipant_ShouldNotGrowWithData(int participants) {
+        Meeting meeting = seedMeeting(participants);
+        User participant = participant(meeting);
+
+        assertStatements(8, () -> meetingService.removeParticipant(meeting.getId(), participant.getId()));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 100})
+    void acceptInvitation_ShouldNotGrowWithData(int participants) {
+        Meeting meeting = seedMeeting(participants);
+        User participant = participant(meeting);
+
+        assertStatements(6, () -> meetingService.acceptInvitation(meeting.getId(), participant.getId()));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 100})
+    void createTimeSlot_ShouldNotGrowWithData(int slots) {
+        User user = createUsers(1).getFirst();
+        createSlots(user, slots, TimeSlotStatus.AVAILABLE);
+        TimeSlotDTO timeSlotDTO = new TimeSlotDTO();
+        timeSlotDTO.setUserId(user.getId());
+        timeSlotDTO.setStartTime(local(START.minus(1, ChronoUnit.HOURS)));
+        timeSlotDTO.setEndTime(local(START));
+        timeSlotDTO.setStatus(TimeSlotStatus.AVAILABLE);
+
+        assertStatements(2, () -> timeSlotService.createTimeSlot(timeSlotDTO));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 100})
+    void updateTimeSlot_ShouldNotGrowWithData(int slots) {
+        TimeSlot timeSlot = createSlots(createUsers(1).getFirst(), slots, TimeSlotStatus.AVAILABLE).getFirst();
+        TimeSlotDTO timeSlotDTO = new TimeSlotDTO();
+        timeSlotDTO.setStartTime(local(timeSlot.getStartTime()));
+        timeSlotDTO.setEndTime(local(timeSlot.getEndTime()));
+        timeSlotDTO.setStatus(TimeSlotStatus.BUSY);
+
+        assertStatements(3, () -> timeSlotService.updateTimeSlot(timeSlot.getId(), timeSlotDTO));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 100})
+    void deleteTimeSlot_ShouldNotGrowWithData(int slots) {
+        TimeSlot timeSlot = createSlots(createUsers(1).getFirst(), slots, TimeSlotStatus.AVAILABLE).getFirst();
+
+        assertStatements(2, () -> timeSlotService.deleteTimeSlot(timeSlot.getId()));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 100})
+    void getTimeSlotById_ShouldNotGrowWithData(int slots) {
+        TimeSlot timeSlot = createSlots(createUsers(1).getFirst(), slots, TimeSlotStatus.AVAILABLE).getFirst();
+
+        assertStatements(1, () -> timeSlotService.getTimeSlotById(timeSlot.getId()));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 100})
+    void getCalendarVersion_ShouldNotGrowWithData(int slots) {
+        User user = createUsers(1).getFirst();
+        createSlots(user, slots, TimeSlotStatus.AVAILABLE);
+
+        assertStatements(1, () -> timeSlotService.getCalendarVersion(user.getId()));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 100})
+    void getAvailableTimeSlotsVersion_ShouldNotGrowWithData(int slots) {
+        User user = createUsers(1).getFirst();
+        createSlots(user, slots, TimeSlotStatus.AVAILABLE);
+
+        assertStatements(1, () -> timeSlotService.getAvailableTimeSlotsVersion(user.getId()));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 100})
+    void getTimeSlotsByUserId_ShouldNotGrowWithData(int slots) {
+        User user = createUsers(1).getFirst();
+        createSlots(user, slots, TimeSlotStatus.AVAILABLE);
+
+        assertStatements(1, () -> timeSlotService.getTimeSlotsByUserId(user.getId(), null, slots));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 100})
+    void getAvailableTimeSlots_ShouldNotGrowWithData(int slots) {
+        User user = createUsers(1).getFirst();
+        createSlots(user, slots, TimeSlotStatus.AVAILABLE);
+
+        assertStatements(3, () -> timeSlotService.getAvailableTimeSlots(user.getId(), "statements"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 100})
+    void getTimeSlotsInRange_ShouldNotGrowWithData(int slots) {
+        User user = createUsers(1).getFirst();
+        createSlots(user, slots, TimeSlotStatus.AVAILABLE);
+
+        assertStatements(3, () -> timeSlotService.getTimeSlotsInRange(user.getId(),
+                local(START), local(START.plus(slots, ChronoUnit.HOURS))));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 100})
+    void markTimeSlotAsBusy_ShouldNotGrowWithData(int slots) {
+        TimeSlot timeSlot = createSlots(createUsers(1).getFirst(), slots, TimeSlotStatus.AVAILABLE).getFirst();
+
+        assertStatements(3, () -> timeSlotService.markTimeSlotAsBusy(timeSlot.getId()));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 100})
+    void markTimeSlotAsAvailable_ShouldNotGrowWithData(int slots) {
+        TimeSlot timeSlot = createSlots(createUsers(1).getFirst(), slots, TimeSlotStatus.BUSY).getFirst();
+
+        assertStatements(3, () -> timeSlotService.markTimeSlotAsAvailable(timeSlot.getId()));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 100})
+    void markTimeSlotAsBooked_ShouldNotGrowWithData(int slots) {
+        TimeSlot timeSlot = createSlots(createUsers(1).getFirst(), slots, TimeSlotStatus.AVAILABLE).getFirst();
+
+        assertStatements(3, () -> timeSlotService.markTimeSlotAsBooked(timeSlot.getId()));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 100})
+    void createUser_ShouldNotGrowWithData(int users) {
+        createUsers(users);
+        UserDTO userDTO = new UserDTO();
+        userDTO.setEmail(emailPrefix + "-new@example.com");
+        userDTO.setName("New User");
+
+        assertStatements(2, () -> userService.createUser(userDTO));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 100})
+    void getUserById_ShouldNotGrowWithData(int slots) {
+        User user = createUsers(1).getFirst();
+        createSlots(user, slots, TimeSlotStatus.AVAILABLE);
+
+        assertStatements(1, () -> userService.getUserById(user.getId()));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 100})
+    void getUserByEmail_ShouldNotGrowWithData(int slots) {
+        User user = createUsers(1).getFirst();
+        createSlots(user, slots, TimeSlotStatus.AVAILABLE);
+
+        assertStatements(1, () -> userService.getUserByEmail(user.getEmail()));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 100})
+    void getAllUsers_ShouldNotGrowWithData(int users) {
+        String cursor = CursorMapper.encodeId(createUsers(1).getFirst().getId());
+        createUsers(users);
+
+        assertStatements(1, () -> userService.getAllUsers(cursor, users));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 100})
+    void updateUser_ShouldNotGrowWithData(int slots) {
+        User user = createUsers(1).getFirst();
+        createSlots(user, slots, TimeSlotStatus.AVAILABLE);
+        UserDTO userDTO = new UserDTO();
+        userDTO.setEmail(user.getEmail());
+        userDTO.setName("Renamed User");
+
+        assertStatements(2, () -> userService.updateUser(user.getId(), userDTO));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 100})
+    void deleteUser_ShouldNotGrowWithData(int slots) {
+        User user = createUsers(1).getFirst();
+        createSlots(user, slots, TimeSlotStatus.AVAILABLE);
+
+        assertStatements(7, () -> userService.deleteUser(user.getId()));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 100})
+    void writeFreeBusy_ShouldNotGrowWithData(int users) {
+        List<User> busyUsers = createUsers(users);
+        busyUsers.forEach(busyUser -> createSlots(busyUser, 2, TimeSlotStatus.BUSY));
+        FreeBusyRequestDTO request = new FreeBusyRequestDTO();
+        request.setUserIds(ids(busyUsers));
+        request.setStartTime(local(START));
+        request.setEndTime(local(START.plus(1, ChronoUnit.DAYS)));
+
+        assertStatements(1, () -> {
+            try {
+                freeBusyService.writeFreeBusy(request, OutputStream.nullOutputStream());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private void assertStatements(long expected, Runnable operation) {
+        entityManagerFactory.getCache().evictAll();
+        SqlStatementCounter.start();
+        try {
+            operation.run();
+        } finally {
+            SqlStatementCounter.stop();
+        }
+
+        assertThat(SqlStatementCounter.count()).as("SQL statements").isEqualTo(expected);
+    }
+
+    private List<User> createUsers(int count) {
+        List<User> users = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            User user = new User();
+            user.setEmail(emailPrefix + "-" + userCount++ + "@example.com");
+            user.setName("Statement User");
+            users.add(user);
+        }
+        return transactionTemplate.execute(status -> userRepository.saveAll(users));
+    }
+
+    private List<TimeSlot> createSlots(User user, int count, TimeSlotStatus status) {
+        List<TimeSlot> slots = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            TimeSlot slot = new TimeSlot();
+            slot.setCalendar(user.getCalendar());
+            slot.setStartTime(START.plus(i, ChronoUnit.HOURS));
+            slot.setEndTime(START.plus(i + 1, ChronoUnit.HOURS));
+            slot.setStatus(status);
+            slots.add(slot);
+        }
+        return transactionTemplate.execute(transaction -> timeSlotRepository.saveAll(slots));
+    }
+
+    private Meeting seedMeeting(int participants) {
+        User organizer = createUsers(1).getFirst();
+        List<User> invitees = createUsers(participants);
+        invitees.forEach(invitee -> createSlots(invitee, 1, TimeSlotStatus.BOOKED));
+        Meeting meeting = createMeetings(organizer, invitees, 1).getFirst();
+        jdbcTemplate.update("UPDATE time_slots SET booked_meeting_id = ? WHERE calendar_id IN (SELECT user_id FROM meeting_participants WHERE meeting_id = ?)",
+                meeting.getId(), meeting.getId());
+        return meeting;
+    }
+
+    private List<Meeting> createMeetings(User organizer, List<User> participants, int count) {
+        List<TimeSlot> timeSlots = createSlots(organizer, count, TimeSlotStatus.BOOKED);
+        List<Meeting> meetings = new ArrayList<>(count);
+        for (TimeSlot timeSlot : timeSlots) {
+            Meeting meeting = new Meeting();
+            meeting.setTitle("Statements");
+            meeting.setOrganizer(organizer);
+            meeting.setTimeSlot(timeSlot);
+            meeting.getParticipants().add(organizer);
+            meeting.getParticipants().addAll(participants);
+            meetings.add(meeting);
+        }
+        return transactionTemplate.execute(status -> meetingRepository.saveAll(meetings));
+    }
+
+    private static User participant(Meeting meeting) {
+        return meeting.getParticipants().stream()
+                .filter(user -> !user.equals(meeting.getOrganizer()))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static Set<Long> ids(List<User> users) {
+        return users.stream().map(User::getId).collect(Collectors.toCollection(HashSet::new));
+    }
+
+    private static LocalDateTime local(Instant instant) {
+        return LocalDateTime.ofInstant(instant, ZoneId.systemDefault());
+    }
+}
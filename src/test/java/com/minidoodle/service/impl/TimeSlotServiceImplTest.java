@@ -1,14 +1,18 @@
 package com.minidoodle.service.impl;
 
+import com.minidoodle.dto.PageDTO;
 import com.minidoodle.dto.TimeSlotDTO;
+import com.minidoodle.exception.InvalidCursorException;
 import com.minidoodle.helper.TestDataHelper;
 import com.minidoodle.mapper.TimeSlotMapper;
 import com.minidoodle.model.Calendar;
 import com.minidoodle.model.TimeSlot;
 import com.minidoodle.model.TimeSlotStatus;
 import com.minidoodle.model.User;
+import com.minidoodle.repository.CalendarRepository;
 import com.minidoodle.repository.TimeSlotRepository;
 import com.minidoodle.repository.UserRepository;
+import com.minidoodle.service.AvailabilityRuleService;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -16,7 +20,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
@@ -38,6 +44,12 @@ class TimeSlotServiceImplTest {
     @MockBean
     private UserRepository userRepository;
 
+    @MockBean
+    private CalendarRepository calendarRepository;
+
+    @MockBean
+    private AvailabilityRuleService availabilityRuleService;
+
     @Autowired
     private TimeSlotServiceImpl timeSlotService;
 
@@ -45,6 +57,7 @@ class TimeSlotServiceImplTest {
     private TimeSlotDTO timeSlotDTO;
     private User user;
     private Calendar calendar;
+    private String version;
 
     @BeforeEach
     void setUp() {
@@ -55,6 +68,7 @@ class TimeSlotServiceImplTest {
         timeSlotDTO = TestDataHelper.createDefaultTestTimeSlotDTO();
         calendar.setUser(user);
         timeSlot.setCalendar(calendar);
+        version = "test-" + System.nanoTime();
     }
 
     @Test
@@ -74,61 +88,111 @@ class TimeSlotServiceImplTest {
 
     @Test
     void getTimeSlotById_WhenTimeSlotExists_ShouldReturnTimeSlot() {
-        when(timeSlotRepository.findById(1L)).thenReturn(Optional.of(timeSlot));
+        when(timeSlotRepository.findDTOById(1L)).thenReturn(Optional.of(timeSlotDTO));
 
         TimeSlotDTO result = timeSlotService.getTimeSlotById(1L);
 
         assertThat(result).isNotNull();
         assertThat(result.getId()).isEqualTo(timeSlotDTO.getId());
-        verify(timeSlotRepository).findById(1L);
+        verify(timeSlotRepository).findDTOById(1L);
+        verify(timeSlotRepository, never()).findById(any());
     }
 
     @Test
     void getTimeSlotById_WhenTimeSlotDoesNotExist_ShouldThrowException() {
-        when(timeSlotRepository.findById(1L)).thenReturn(Optional.empty());
+        when(timeSlotRepository.findDTOById(1L)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> timeSlotService.getTimeSlotById(1L))
                 .isInstanceOf(EntityNotFoundException.class)
                 .hasMessageContaining("TimeSlot not found with id: 1");
 
-        verify(timeSlotRepository).findById(1L);
+        verify(timeSlotRepository).findDTOById(1L);
     }
 
     @Test
     void getTimeSlotsByUserId_ShouldReturnTimeSlots() {
         List<TimeSlot> timeSlots = Collections.singletonList(timeSlot);
-        when(timeSlotRepository.findByCalendarId(1L)).thenReturn(timeSlots);
+        when(timeSlotRepository.findPageByUserId(1L, Limit.of(51))).thenReturn(timeSlots);
 
-        List<TimeSlotDTO> result = timeSlotService.getTimeSlotsByUserId(1L);
+        PageDTO<TimeSlotDTO> result = timeSlotService.getTimeSlotsByUserId(1L, null, null);
 
-        assertThat(result).hasSize(1);
-        assertThat(result.getFirst().getId()).isEqualTo(timeSlotDTO.getId());
-        verify(timeSlotRepository).findByCalendarId(1L);
+        assertThat(result.getItems()).hasSize(1);
+        assertThat(result.getItems().getFirst().getId()).isEqualTo(timeSlotDTO.getId());
+        assertThat(result.getNextCursor()).isNull();
+        verify(timeSlotRepository).findPageByUserId(1L, Limit.of(51));
+    }
+
+    @Test
+    void getTimeSlotsByUserId_WhenMoreRowsThanLimit_ShouldContinueAfterLastSlot() {
+        TimeSlot secondSlot = TestDataHelper.createTestTimeSlot(2L, calendar, timeSlot.getEndTime(), timeSlot.getEndTime().plusSeconds(3600), TimeSlotStatus.AVAILABLE);
+        when(timeSlotRepository.findPageByUserId(1L, Limit.of(2))).thenReturn(List.of(timeSlot, secondSlot));
+        when(timeSlotRepository.findPageByUserIdAfter(1L, timeSlot.getStartTime(), 1L, Limit.of(2))).thenReturn(List.of(secondSlot));
+
+        PageDTO<TimeSlotDTO> firstPage = timeSlotService.getTimeSlotsByUserId(1L, null, 1);
+        PageDTO<TimeSlotDTO> secondPage = timeSlotService.getTimeSlotsByUserId(1L, firstPage.getNextCursor(), 1);
+
+        assertThat(firstPage.getItems()).extracting(TimeSlotDTO::getId).containsExactly(1L);
+        assertThat(firstPage.getNextCursor()).isNotNull();
+        assertThat(secondPage.getItems()).extracting(TimeSlotDTO::getId).containsExactly(2L);
+        assertThat(secondPage.getNextCursor()).isNull();
+    }
+
+    @Test
+    void getTimeSlotsByUserId_WhenCursorIsMalformed_ShouldThrowException() {
+        assertThatThrownBy(() -> timeSlotService.getTimeSlotsByUserId(1L, "not-a-cursor", null))
+                .isInstanceOf(InvalidCursorException.class);
+
+        verifyNoInteractions(timeSlotRepository);
     }
 
     @Test
     void getAvailableTimeSlots_WhenUserExists_ShouldReturnAvailableTimeSlots() {
-        List<TimeSlot> timeSlots = Collections.singletonList(timeSlot);
-        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        List<TimeSlotDTO> timeSlots = Collections.singletonList(timeSlotDTO);
+        when(calendarRepository.findIdByUserId(1L)).thenReturn(Optional.of(calendar.getId()));
         when(timeSlotRepository.findAvailableTimeSlots(calendar.getId())).thenReturn(timeSlots);
 
-        List<TimeSlotDTO> result = timeSlotService.getAvailableTimeSlots(1L);
+        List<TimeSlotDTO> result = timeSlotService.getAvailableTimeSlots(1L, version);
 
         assertThat(result).hasSize(1);
         assertThat(result.getFirst().getId()).isEqualTo(timeSlotDTO.getId());
-        verify(userRepository).findById(1L);
+        verify(calendarRepository).findIdByUserId(1L);
+        verify(userRepository, never()).findById(any());
         verify(timeSlotRepository).findAvailableTimeSlots(calendar.getId());
     }
 
+    @Test
+    void getAvailableTimeSlots_WhenCalledRepeatedly_ShouldServeCachedResultUntilVersionChanges() {
+        when(calendarRepository.findIdByUserId(1L)).thenReturn(Optional.of(calendar.getId()));
+        when(timeSlotRepository.findAvailableTimeSlots(calendar.getId())).thenReturn(List.of(timeSlotDTO));
+
+        timeSlotService.getAvailableTimeSlots(1L, version);
+        List<TimeSlotDTO> cached = timeSlotService.getAvailableTimeSlots(1L, version);
+        List<TimeSlotDTO> reloaded = timeSlotService.getAvailableTimeSlots(1L, version + "-changed");
+
+        assertThat(cached).hasSize(1);
+        assertThat(reloaded).hasSize(1);
+        verify(calendarRepository, times(3)).findIdByUserId(1L);
+        verify(timeSlotRepository, times(2)).findAvailableTimeSlots(calendar.getId());
+    }
+
+    @Test
+    void getCalendarVersion_ShouldBeDerivedFromCalendarUpdatedAt() {
+        when(calendarRepository.findUpdatedAtByUserId(1L)).thenReturn(Optional.of(Instant.ofEpochSecond(1_700_000_000L, 123_456_000L)));
+
+        assertThat(timeSlotService.getCalendarVersion(1L)).isEqualTo("1700000000123456");
+        assertThat(timeSlotService.getAvailableTimeSlotsVersion(1L)).startsWith("1700000000123456-");
+        verify(timeSlotRepository, never()).findAvailableTimeSlots(any());
+    }
+
     @Test
     void getAvailableTimeSlots_WhenUserDoesNotExist_ShouldThrowException() {
-        when(userRepository.findById(1L)).thenReturn(Optional.empty());
+        when(calendarRepository.findIdByUserId(1L)).thenReturn(Optional.empty());
 
-        assertThatThrownBy(() -> timeSlotService.getAvailableTimeSlots(1L))
+        assertThatThrownBy(() -> timeSlotService.getAvailableTimeSlots(1L, version))
                 .isInstanceOf(EntityNotFoundException.class)
                 .hasMessageContaining("User not found with id: 1");
 
-        verify(userRepository).findById(1L);
+        verify(calendarRepository).findIdByUserId(1L);
         verify(timeSlotRepository, never()).findAvailableTimeSlots(any());
     }
 
@@ -136,9 +200,9 @@ class TimeSlotServiceImplTest {
     void getTimeSlotsInRange_ShouldReturnTimeSlots() {
         LocalDateTime startTime = LocalDateTime.now();
         LocalDateTime endTime = startTime.plusHours(1);
-        List<TimeSlot> timeSlots = Collections.singletonList(timeSlot);
+        List<TimeSlotDTO> timeSlots = Collections.singletonList(timeSlotDTO);
         
-        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(calendarRepository.findIdByUserId(1L)).thenReturn(Optional.of(1L));
         when(timeSlotRepository.findAvailableSlotsInTimeRange(1L, toInstant(startTime), toInstant(endTime))).thenReturn(timeSlots);
 
         List<TimeSlotDTO> result = timeSlotService.getTimeSlotsInRange(1L, startTime, endTime);
@@ -148,6 +212,25 @@ class TimeSlotServiceImplTest {
         verify(timeSlotRepository).findAvailableSlotsInTimeRange(1L, toInstant(startTime), toInstant(endTime));
     }
 
+    @Test
+    void getTimeSlotsInRange_ShouldMergeRuleOccurrencesByStartTime() {
+        LocalDateTime startTime = LocalDateTime.now();
+        LocalDateTime endTime = startTime.plusHours(3);
+        TimeSlotDTO storedSlot = TestDataHelper.createTestTimeSlotDTO(1L, 1L, startTime.plusHours(1), startTime.plusHours(2), TimeSlotStatus.AVAILABLE);
+        TimeSlotDTO occurrence = TestDataHelper.createTestTimeSlotDTO(null, 1L, startTime, startTime.plusMinutes(30), TimeSlotStatus.AVAILABLE);
+        occurrence.setAvailabilityRuleId(5L);
+
+        when(calendarRepository.findIdByUserId(1L)).thenReturn(Optional.of(1L));
+        when(timeSlotRepository.findAvailableSlotsInTimeRange(1L, toInstant(startTime), toInstant(endTime))).thenReturn(List.of(storedSlot));
+        when(availabilityRuleService.expandAvailability(1L, 1L, startTime, endTime)).thenReturn(List.of(occurrence));
+
+        List<TimeSlotDTO> result = timeSlotService.getTimeSlotsInRange(1L, startTime, endTime);
+
+        assertThat(result).hasSize(2);
+        assertThat(result.getFirst().getAvailabilityRuleId()).isEqualTo(5L);
+        assertThat(result.get(1).getId()).isEqualTo(1L);
+    }
+
     @Test
     void markTimeSlotAsBusy_WhenTimeSlotExists_ShouldUpdateStatus() {
         when(timeSlotRepository.findById(1L)).thenReturn(Optional.of(timeSlot));
@@ -210,24 +293,24 @@ class TimeSlotServiceImplTest {
 
     @Test
     void deleteTimeSlot_WhenTimeSlotExists_ShouldDeleteTimeSlot() {
-        when(timeSlotRepository.existsById(1L)).thenReturn(true);
-        doNothing().when(timeSlotRepository).deleteById(1L);
+        when(timeSlotRepository.findById(1L)).thenReturn(Optional.of(timeSlot));
+        doNothing().when(timeSlotRepository).delete(timeSlot);
 
         timeSlotService.deleteTimeSlot(1L);
 
-        verify(timeSlotRepository).existsById(1L);
-        verify(timeSlotRepository).deleteById(1L);
+        verify(timeSlotRepository).findById(1L);
+        verify(timeSlotRepository).delete(timeSlot);
     }
 
     @Test
     void deleteTimeSlot_WhenTimeSlotDoesNotExist_ShouldThrowException() {
-        when(timeSlotRepository.existsById(1L)).thenReturn(false);
+        when(timeSlotRepository.findById(1L)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> timeSlotService.deleteTimeSlot(1L))
                 .isInstanceOf(EntityNotFoundException.class)
                 .hasMessageContaining("TimeSlot not found with id: 1");
 
-        verify(timeSlotRepository).existsById(1L);
-        verify(timeSlotRepository, never()).deleteById(any());
+        verify(timeSlotRepository).findById(1L);
+        verify(timeSlotRepository, never()).delete(any());
     }
-} 
\ No newline at end of file
+}
\ No newline at end of file
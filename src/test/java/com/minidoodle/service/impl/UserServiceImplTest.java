@@ -1,5 +1,6 @@
 package com.minidoodle.service.impl;
 
+import com.minidoodle.dto.PageDTO;
 import com.minidoodle.dto.UserDTO;
 import com.minidoodle.helper.TestDataHelper;
 import com.minidoodle.mapper.UserMapper;
@@ -12,6 +13,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
 
 import java.util.Collections;
 import java.util.List;
@@ -88,16 +90,32 @@ class UserServiceImplTest {
     }
 
     @Test
-    void getAllUsers_ShouldReturnAllUsers() {
+    void getAllUsers_ShouldReturnFirstPage() {
         List<User> users = Collections.singletonList(user);
 
-        when(userRepository.findAll()).thenReturn(users);
+        when(userRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(51))).thenReturn(users);
 
-        List<UserDTO> result = userService.getAllUsers();
+        PageDTO<UserDTO> result = userService.getAllUsers(null, null);
 
-        assertThat(result).hasSize(1);
-        assertThat(result.getFirst().getId()).isEqualTo(userDTO.getId());
-        verify(userRepository).findAll();
+        assertThat(result.getItems()).hasSize(1);
+        assertThat(result.getItems().getFirst().getId()).isEqualTo(userDTO.getId());
+        assertThat(result.getNextCursor()).isNull();
+        verify(userRepository).findByIdGreaterThanOrderByIdAsc(0L, Limit.of(51));
+        verify(userRepository, never()).findAll();
+    }
+
+    @Test
+    void getAllUsers_WhenMoreUsersThanLimit_ShouldReturnCursorAfterLastUser() {
+        User secondUser = TestDataHelper.createTestUser(2L, "second@example.com", "Second");
+        when(userRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(2))).thenReturn(List.of(user, secondUser));
+        when(userRepository.findByIdGreaterThanOrderByIdAsc(1L, Limit.of(2))).thenReturn(List.of(secondUser));
+
+        PageDTO<UserDTO> firstPage = userService.getAllUsers(null, 1);
+        PageDTO<UserDTO> secondPage = userService.getAllUsers(firstPage.getNextCursor(), 1);
+
+        assertThat(firstPage.getItems()).extracting(UserDTO::getId).containsExactly(1L);
+        assertThat(secondPage.getItems()).extracting(UserDTO::getId).containsExactly(2L);
+        assertThat(secondPage.getNextCursor()).isNull();
     }
 
     @Test